@@ -0,0 +1,82 @@
+package com.ganzithon.homemate.jwt;
+
+import com.ganzithon.homemate.security.AccessTokenDenylist;
+import com.ganzithon.homemate.security.PrincipalResolver;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// ========================================
+// 인증 필터 hot path (Authorization 헤더 → SecurityContext)
+// - cacheSize=0     : 매 요청 서명 검증 + JSON 파싱
+// - cacheSize=10000 : 같은 토큰 반복 → 검증 완료 캐시 적중
+// 실행: gradle jmh
+// ========================================
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> { };
+
+    @Param({"0", "10000"})
+    public long cacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setAccessTokenSecret("aG9tZW1hdGUtYmVuY2htYXJrLXNlY3JldC1ob21lbWF0ZSEh");
+        props.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+        props.setVerifiedTokenCacheSize(cacheSize);
+
+        JwtTokenProvider provider = new JwtTokenProvider(props);
+        provider.init();
+
+        // claims 모드 + 메모리 denylist: 저장소는 사용되지 않음
+        filter = new JwtAuthenticationFilter(
+                provider,
+                new PrincipalResolver(null, "claims", 10_000, 300),
+                new AccessTokenDenylist(null)
+        );
+        authorization = "Bearer " + provider.createAccessToken("42", UUID.randomUUID().toString(), Map.of("loginId", "bench-user"));
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        request.addHeader("Authorization", authorization);
+
+        filter.doFilter(request, new MockHttpServletResponse(), NOOP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,67 @@
+package com.ganzithon.homemate.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+
+// ========================================
+// 서비스 / 리포지토리 메서드마다 Observation (span + 타이머)
+// - homemate.service    : @Service 의 public 메서드 (예: HousingInfoService.getRecommendations)
+// - homemate.repository : Spring Data 리포지토리 메서드 (예: HousingInfoRepository.findByBrtcNmAndSignguNmIn)
+// - 트랜잭션 커밋 시간까지 포함되도록 트랜잭션 advice 보다 바깥에서 실행
+// ========================================
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class LayerObservationAspect {
+
+    private static final String BASE_PACKAGE = "com.ganzithon.homemate.";
+
+    private final ObservationRegistry observationRegistry;
+
+    // 캐시 메트릭 등록(MeterBinder.bindTo)은 기동 시 한 번뿐이라 제외
+    @Around("within(@org.springframework.stereotype.Service *) && execution(public * com.ganzithon.homemate.service..*(..)) "
+            + "&& !execution(* io.micrometer.core.instrument.binder.MeterBinder.bindTo(..))")
+    public Object observeService(ProceedingJoinPoint pjp) throws Throwable {
+        return observe("homemate.service", pjp);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..)) "
+            + "|| execution(public * com.ganzithon.homemate.repository..*Impl.*(..))")
+    public Object observeRepository(ProceedingJoinPoint pjp) throws Throwable {
+        return observe("homemate.repository", pjp);
+    }
+
+    private Object observe(String name, ProceedingJoinPoint pjp) throws Throwable {
+        String type = typeName(pjp);
+        String method = pjp.getSignature().getName();
+        return Observation.createNotStarted(name, observationRegistry)
+                .contextualName(type + "." + method)
+                .lowCardinalityKeyValue("class", type)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked(() -> pjp.proceed());
+    }
+
+    // 리포지토리는 JDK 프록시라 구현체(SimpleJpaRepository) 대신 우리 인터페이스 이름을 사용
+    private static String typeName(ProceedingJoinPoint pjp) {
+        Object proxy = pjp.getThis();
+        if (proxy != null && Proxy.isProxyClass(proxy.getClass())) {
+            for (Class<?> type : proxy.getClass().getInterfaces()) {
+                if (type.getName().startsWith(BASE_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(pjp.getTarget()).getSimpleName();
+    }
+}
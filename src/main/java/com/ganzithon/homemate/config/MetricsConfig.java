@@ -0,0 +1,16 @@
+package com.ganzithon.homemate.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+// ========================================
+// 운영 지표 (Micrometer → /actuator/prometheus)
+// - 기본 설정은 metrics-defaults.properties (배포 설정이 있으면 그쪽이 우선)
+// - 자동 수집: http.server.requests (컨트롤러별), http.client.requests (RestTemplate),
+//   hikaricp.connections.*, jvm.* / jvm.gc.*, process.*, cache.* (MeterBinder 로 등록한 Caffeine 캐시)
+// - 직접 기록: homemate.upstream.* (AI / 주거정보 API), homemate.recommendation.stage
+// ========================================
+@Configuration
+@PropertySource("classpath:metrics-defaults.properties")
+public class MetricsConfig {
+}
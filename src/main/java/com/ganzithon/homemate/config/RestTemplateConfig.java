@@ -1,5 +1,6 @@
 package com.ganzithon.homemate.config;
 
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
@@ -12,7 +13,7 @@ import java.security.cert.X509Certificate;
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() throws Exception {
+    public RestTemplate restTemplate(RestTemplateBuilder builder) throws Exception {
         // SSL 인증서 검증을 우회하는 TrustManager 생성
         TrustManager[] trustAllCerts = new TrustManager[]{
             new X509TrustManager() {
@@ -54,6 +55,7 @@ public class RestTemplateConfig {
         factory.setConnectTimeout(120000); // 연결 타임아웃 2분
         factory.setReadTimeout(120000); // 읽기 타임아웃 2분
 
-        return new RestTemplate(factory);
+        // Boot 의 builder 로 생성해야 http.client.requests 지표가 붙음
+        return builder.requestFactory(() -> factory).build();
     }
 }
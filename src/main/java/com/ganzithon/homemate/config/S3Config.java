@@ -0,0 +1,61 @@
+package com.ganzithon.homemate.config;
+
+import com.ganzithon.homemate.service.storage.S3StorageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+
+// S3 호환 이미지 저장소 클라이언트 (homemate.storage.type=s3)
+@Configuration
+@ConditionalOnProperty(name = "homemate.storage.type", havingValue = "s3")
+public class S3Config {
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client(S3StorageProperties props) {
+        var builder = S3Client.builder()
+                .region(Region.of(props.getRegion()))
+                .credentialsProvider(credentials(props))
+                .serviceConfiguration(serviceConfiguration(props));
+        if (StringUtils.hasText(props.getEndpoint())) {
+            builder.endpointOverride(URI.create(props.getEndpoint()));
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner(S3StorageProperties props) {
+        var builder = S3Presigner.builder()
+                .region(Region.of(props.getRegion()))
+                .credentialsProvider(credentials(props))
+                .serviceConfiguration(serviceConfiguration(props));
+        if (StringUtils.hasText(props.getEndpoint())) {
+            builder.endpointOverride(URI.create(props.getEndpoint()));
+        }
+        return builder.build();
+    }
+
+    private static S3Configuration serviceConfiguration(S3StorageProperties props) {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(props.isPathStyleAccess())
+                .build();
+    }
+
+    private static AwsCredentialsProvider credentials(S3StorageProperties props) {
+        if (StringUtils.hasText(props.getAccessKey())) {
+            return StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(props.getAccessKey(), props.getSecretKey()));
+        }
+        return DefaultCredentialsProvider.builder().build();
+    }
+}
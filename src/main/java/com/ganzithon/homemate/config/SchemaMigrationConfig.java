@@ -0,0 +1,28 @@
+package com.ganzithon.homemate.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// ========================================
+// 스키마 변경은 Flyway(db/migration) 로만
+// - ddl-auto 로 만들어진 기존 DB 는 V1 으로 baseline 후 V2 부터 적용
+// - Hibernate 는 엔티티와 스키마가 맞는지 검증만
+// ========================================
+@Configuration
+public class SchemaMigrationConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("1");
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer schemaValidateCustomizer() {
+        return properties -> properties.put(AvailableSettings.HBM2DDL_AUTO, "validate");
+    }
+}
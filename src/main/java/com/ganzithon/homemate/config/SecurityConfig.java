@@ -2,12 +2,19 @@ package com.ganzithon.homemate.config;
 
 import com.ganzithon.homemate.jwt.JwtAuthenticationFilter;
 import com.ganzithon.homemate.jwt.JwtTokenProvider;
-import com.ganzithon.homemate.repository.UserRepository;
+import com.ganzithon.homemate.security.AccessTokenDenylist;
+import com.ganzithon.homemate.security.BoundedPasswordEncoder;
+import com.ganzithon.homemate.security.PrincipalResolver;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,24 +24,37 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
 
+// 기본 설정(프록시 헤더, 로그인 제한)은 security-defaults.properties (배포 설정이 있으면 그쪽이 우선)
 @Configuration
+@PropertySource("classpath:security-defaults.properties")
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final PrincipalResolver principalResolver;
+    private final AccessTokenDenylist accessTokenDenylist;
 
+    // actuator 는 health 만 공개, 나머지(prometheus 등)는 내부망에서 온 요청만
+    // - 로드밸런서를 거친 요청은 forward-headers-strategy 로 복원한 클라이언트 IP 로 판단
+    // - 별도 포트로 분리하려면 management.server.port 를 지정하고 그 포트를 외부에 열지 않음
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${homemate.actuator.allowed-networks:127.0.0.0/8,::1/128,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16}")
+            List<String> actuatorNetworks
+    ) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(Customizer.withDefaults())
@@ -64,6 +84,10 @@ public class SecurityConfig {
                         // 나머지 프로필 관련 엔드포인트는 인증 필요
                         .requestMatchers("/api/profile/**").authenticated()
 
+                        // 운영 엔드포인트
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").access(fromNetworks(actuatorNetworks))
+
                         // 나머지는 일단 전부 허용 (추후 강화 가능)
                         .anyRequest().permitAll()
                 )
@@ -79,14 +103,32 @@ public class SecurityConfig {
         return http.build();
     }
 
+    private static AuthorizationManager<RequestAuthorizationContext> fromNetworks(List<String> networks) {
+        List<IpAddressMatcher> matchers = networks.stream()
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(IpAddressMatcher::new)
+                .toList();
+        return (authentication, context) -> new AuthorizationDecision(
+                matchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userRepository);
+        return new JwtAuthenticationFilter(jwtTokenProvider, principalResolver, accessTokenDenylist);
     }
 
+    // BCrypt 는 전용 풀(workers 기본 = 코어 수 절반)에서만 실행 → 로그인이 몰려도 다른 API 는 CPU 확보
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${homemate.auth.bcrypt.workers:0}") int workers,
+            @Value("${homemate.auth.bcrypt.queue-capacity:64}") int queueCapacity,
+            @Value("${homemate.auth.bcrypt.timeout-ms:3000}") long timeoutMillis
+    ) {
+        int poolSize = workers > 0 ? workers : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(), poolSize, queueCapacity, timeoutMillis, meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,28 @@
+package com.ganzithon.homemate.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+// ========================================
+// 분산 추적 (Micrometer Tracing → OpenTelemetry)
+// - 기본 설정은 tracing-defaults.properties (배포 설정이 있으면 그쪽이 우선)
+// - span 구성: HTTP 요청 → 서비스 메서드 → 리포지토리 메서드 → JDBC 쿼리(SQL)
+//              + RestTemplate 외부 호출 (traceparent 헤더 전파)
+//   · 서비스/리포지토리 span 은 LayerObservationAspect, JDBC 는 datasource-micrometer
+// - 내보내기: management.otlp.tracing.endpoint 를 지정하면 OTLP 수집기로,
+//   수집기 없이 보려면 homemate.tracing.log-spans=true (로그 출력)
+// ========================================
+@Configuration
+@PropertySource("classpath:tracing-defaults.properties")
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "homemate.tracing.log-spans", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
@@ -2,10 +2,12 @@ package com.ganzithon.homemate.controller;
 
 import com.ganzithon.homemate.dto.Login.LoginRequest;
 import com.ganzithon.homemate.dto.Login.LoginResponse;
+import com.ganzithon.homemate.dto.Login.RefreshRequest;
 import com.ganzithon.homemate.dto.Login.RegisterRequest;
 import com.ganzithon.homemate.dto.MessageResponse;
 import com.ganzithon.homemate.dto.TokenResponse;
 import com.ganzithon.homemate.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -30,9 +32,24 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse token = authService.login(request);
-        return ResponseEntity.ok(new TokenResponse("로그인이 완료되었습니다.", token.accessToken()));
+    public ResponseEntity<TokenResponse> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        LoginResponse token = authService.login(request, httpRequest.getRemoteAddr());
+        return ResponseEntity.ok(new TokenResponse("로그인이 완료되었습니다.", token.accessToken(), token.refreshToken()));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        LoginResponse token = authService.refresh(request.refreshToken());
+        return ResponseEntity.ok(new TokenResponse("토큰이 재발급되었습니다.", token.accessToken(), token.refreshToken()));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<MessageResponse> logout(@Valid @RequestBody RefreshRequest request) {
+        authService.logout(request.refreshToken());
+        return ResponseEntity.ok(new MessageResponse("로그아웃되었습니다."));
     }
 }
 
@@ -4,18 +4,24 @@ import com.ganzithon.homemate.dto.Post.CreatePostRequest;
 import com.ganzithon.homemate.dto.Post.UpdatePostRequest;
 import com.ganzithon.homemate.dto.Post.PostCategory;
 import com.ganzithon.homemate.dto.Post.PostDetailResponse;
+import com.ganzithon.homemate.dto.Post.LikeResponse;
+import com.ganzithon.homemate.dto.Post.PresignedUploadResponse;
 import com.ganzithon.homemate.dto.Comment.CreateCommentRequest;
 import com.ganzithon.homemate.dto.Comment.UpdateCommentRequest;
 import com.ganzithon.homemate.dto.Comment.CommentResponse;
 import com.ganzithon.homemate.security.UserPrincipal;
-import com.ganzithon.homemate.service.RoommatePostService;
-import com.ganzithon.homemate.service.FreePostService;
-import com.ganzithon.homemate.service.PolicyPostService;
+import com.ganzithon.homemate.service.PostService;
 import com.ganzithon.homemate.service.PostLikeService;
 import com.ganzithon.homemate.service.CommentService;
+import com.ganzithon.homemate.service.HomeFeedService;
+import com.ganzithon.homemate.service.PostDetailAssembler;
+import com.ganzithon.homemate.service.ranking.HotPostRankingService;
+import com.ganzithon.homemate.service.storage.PostImageFiles;
 import com.ganzithon.homemate.dto.PageResponse;
+import com.ganzithon.homemate.dto.CursorResponse;
 import com.ganzithon.homemate.dto.Post.PostListItemResponse;
 import com.ganzithon.homemate.dto.Post.SearchType;
+import com.ganzithon.homemate.dto.Post.PostSearchCondition;
 import com.ganzithon.homemate.dto.ApiResponse;
 import com.ganzithon.homemate.dto.Post.HomePostsResponse;
 
@@ -28,7 +34,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 
+import java.time.LocalDate;
 import java.util.List;
 
 
@@ -37,22 +45,28 @@ import java.util.List;
 @RequestMapping("/api/posts")
 public class PostController {
 
-    private final RoommatePostService roommatePostService;
-    private final FreePostService freePostService;
-    private final PolicyPostService policyPostService;
+    private final PostService postService;
     private final PostLikeService postLikeService;
     private final CommentService commentService;
+    private final HomeFeedService homeFeedService;
+    private final PostDetailAssembler postDetailAssembler;
+    private final HotPostRankingService hotPostRankingService;
+    private final PostImageFiles postImageFiles;
 
-    public PostController(RoommatePostService roommatePostService,
-                          FreePostService freePostService,
-                          PolicyPostService policyPostService,
+    public PostController(PostService postService,
                           PostLikeService postLikeService,
-                          CommentService commentService) {
-        this.roommatePostService = roommatePostService;
-        this.freePostService = freePostService;
-        this.policyPostService = policyPostService;
+                          CommentService commentService,
+                          HomeFeedService homeFeedService,
+                          PostDetailAssembler postDetailAssembler,
+                          HotPostRankingService hotPostRankingService,
+                          PostImageFiles postImageFiles) {
+        this.postService = postService;
         this.postLikeService = postLikeService;
         this.commentService = commentService;
+        this.homeFeedService = homeFeedService;
+        this.postDetailAssembler = postDetailAssembler;
+        this.hotPostRankingService = hotPostRankingService;
+        this.postImageFiles = postImageFiles;
     }
 
     // =============================================================
@@ -69,17 +83,28 @@ public class PostController {
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
         Long userId = principal.id();
-
-        switch (req.getCategory()) {
-            case ROOMMATE -> roommatePostService.create(userId, req, images);
-            case FREE -> freePostService.create(userId, req, images);
-            case POLICY -> policyPostService.create(userId, req, images);
-        }
+        postService.create(userId, req, images);
 
         ApiResponse<Void> body = new ApiResponse<>("게시글이 작성되었습니다.");
         return ResponseEntity.status(HttpStatus.CREATED).body(body);
     }
 
+    // =============================================================
+    // 이미지 직접 업로드 URL 발급 (S3 저장소일 때만)
+    // POST /api/posts/images/presigned?category=&contentType=&contentLength=
+    // - jpeg/png/gif/webp/heic, 최대 크기 이하만
+    // - 응답의 uploadUrl 로 파일을 PUT (headers 그대로, 본문은 contentLength 바이트)
+    // - 글 작성/수정 시 imageUrl 을 imageUrls 로 전달
+    // =============================================================
+    @PostMapping("/images/presigned")
+    public ResponseEntity<PresignedUploadResponse> presignImageUpload(
+            @RequestParam PostCategory category,
+            @RequestParam String contentType,
+            @RequestParam long contentLength
+    ) {
+        return ResponseEntity.ok(postImageFiles.presignUpload(category, contentType, contentLength));
+    }
+
     // =================================================
     // 글 수정 (작성자만)
     // PUT /api/posts/{id}
@@ -98,30 +123,8 @@ public class PostController {
     ) {
         Long userId = principal.id();
 
-        PostCategory targetCategory = req.getNewCategory();
-        if (targetCategory == null) {
-            targetCategory = category;
-        }
-
-        if (targetCategory == category) {
-            switch (category) {
-                case ROOMMATE -> roommatePostService.update(userId, id, req, images);
-                case FREE -> freePostService.update(userId, id, req, images);
-                case POLICY -> policyPostService.update(userId, id, req, images);
-            }
-        } else {
-            switch (category) {
-                case ROOMMATE -> roommatePostService.moveToAnotherCategory(
-                        userId, id, req, images, targetCategory
-                );
-                case FREE -> freePostService.moveToAnotherCategory(
-                        userId, id, req, images, targetCategory
-                );
-                case POLICY -> policyPostService.moveToAnotherCategory(
-                        userId, id, req, images, targetCategory
-                );
-            }
-        }
+        // newCategory 가 있으면 게시판 이동 (같은 글 id 유지)
+        postService.update(userId, category, id, req, images);
 
         ApiResponse<Void> body = new ApiResponse<>("게시글이 수정되었습니다.");
         return ResponseEntity.ok(body);
@@ -139,19 +142,17 @@ public class PostController {
     ) {
         Long userId = principal.id();
 
-        switch (category) {
-            case ROOMMATE -> roommatePostService.delete(userId, id);
-            case FREE -> freePostService.delete(userId, id);
-            case POLICY -> policyPostService.delete(userId, id);
-        }
+        postService.delete(userId, category, id);
 
         ApiResponse<Void> body = new ApiResponse<>("게시글이 삭제되었습니다.");
         return ResponseEntity.ok(body);
     }
 
     // ========================================
-    // 목록 조회
-    // GET /api/posts/{category}?page=&size=
+    // 목록 조회 (+ 검색/지역/기간 필터, 모든 게시판 공통)
+    // GET /api/posts/{category}?page=&size=&searchType=&keyword=&sido=&sigungu=&from=&to=
+    // - 조건은 모두 선택, 함께 주면 AND
+    // - from/to: yyyy-MM-dd (양 끝 포함)
     // ========================================
     @GetMapping("/{category}")
     public ResponseEntity<PageResponse<PostListItemResponse>> list(
@@ -161,52 +162,32 @@ public class PostController {
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String sido,
-            @RequestParam(required = false) String sigungu
+            @RequestParam(required = false) String sigungu,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
-        Page<PostListItemResponse> resultPage = null;
-
-        boolean hasKeyword = (keyword != null && !keyword.isBlank());
-        boolean hasSearchType = (searchType != null);
-        boolean hasSido = (sido != null && !sido.isBlank());
-        boolean hasSigungu = (sigungu != null && !sigungu.isBlank());
-
-        switch (category) {
-            case ROOMMATE -> {
-                if (hasKeyword && hasSearchType) {
-                    resultPage = roommatePostService.searchList(
-                            page, size, searchType, keyword,
-                            hasSido ? sido : null,
-                            hasSigungu ? sigungu : null
-                    );
-                } else {
-                    resultPage = roommatePostService.getList(page, size);
-                }
-            }
-            case FREE -> {
-                if (hasKeyword && hasSearchType) {
-                    resultPage = freePostService.searchList(
-                            page, size, searchType, keyword,
-                            hasSido ? sido : null,
-                            hasSigungu ? sigungu : null
-                    );
-                } else {
-                    resultPage = freePostService.getList(page, size);
-                }
-            }
-            case POLICY -> {
-                if (hasKeyword && hasSearchType) {
-                    resultPage = policyPostService.searchList(
-                            page, size, searchType, keyword
-                    );
-                } else {
-                    resultPage = policyPostService.getList(page, size);
-                }
-            }
-        }
+        PostSearchCondition condition = new PostSearchCondition(
+                category, searchType, keyword, sido, sigungu, from, to
+        );
+        Page<PostListItemResponse> resultPage = postService.getList(condition, page, size);
 
         return ResponseEntity.ok(new PageResponse<>(resultPage));
     }
 
+    // ========================================
+    // 인기글
+    // GET /api/posts/{category}/hot?sido=&size=
+    // - 조회/좋아요/댓글 + 시간 감쇠 점수 순 (sido 가 있으면 해당 지역만)
+    // ========================================
+    @GetMapping("/{category}/hot")
+    public ResponseEntity<List<PostListItemResponse>> hot(
+            @PathVariable PostCategory category,
+            @RequestParam(required = false) String sido,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<Long> postIds = hotPostRankingService.topPostIds(category, sido, size);
+        return ResponseEntity.ok(postService.getListItems(category, postIds));
+    }
 
     // ========================================
     // 상세 조회 (+ 좋아요/댓글 정보 포함)
@@ -218,28 +199,10 @@ public class PostController {
             @PathVariable PostCategory category,
             @PathVariable Long id
     ) {
-        PostDetailResponse response = switch (category) {
-            case ROOMMATE -> roommatePostService.getDetailAndIncreaseView(id);
-            case FREE -> freePostService.getDetailAndIncreaseView(id);
-            case POLICY -> policyPostService.getDetailAndIncreaseView(id);
-        };
-
-        // 좋아요 정보
-        long likeCount = postLikeService.getLikeCount(category, id);
-        response.setLikeCount(likeCount);
-
         Long userId = (principal != null) ? principal.id() : null;
-        if (userId != null) {
-            boolean likedByMe = postLikeService.likedByUser(category, id, userId);
-            response.setLikedByMe(likedByMe);
-        }
 
-        // 댓글 정보
-        long commentCount = commentService.getCommentCount(category, id);
-        response.setCommentCount(commentCount);
-
-        List<CommentResponse> comments = commentService.getComments(category, id);
-        response.setComments(comments);
+        // 게시글/좋아요/댓글을 트랜잭션 하나에서 조립
+        PostDetailResponse response = postDetailAssembler.assembleAndIncreaseView(category, id, userId);
 
         return ResponseEntity.ok(response);
     }
@@ -250,33 +213,33 @@ public class PostController {
     // DELETE /api/posts/{category}/{id}/likes
     // ========================================
     @PostMapping("/{category}/{id}/likes")
-    public ResponseEntity<ApiResponse<Void>> like(
+    public ResponseEntity<ApiResponse<LikeResponse>> like(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable PostCategory category,
             @PathVariable Long id
     ) {
         Long userId = principal.id();
-        postLikeService.like(category, id, userId);
-        ApiResponse<Void> body = new ApiResponse<>("좋아요가 추가되었습니다.");
+        LikeResponse like = postLikeService.like(category, id, userId);
+        ApiResponse<LikeResponse> body = new ApiResponse<>("좋아요가 추가되었습니다.", like);
         return ResponseEntity.status(HttpStatus.CREATED).body(body);
     }
 
     @DeleteMapping("/{category}/{id}/likes")
-    public ResponseEntity<ApiResponse<Void>> unlike(
+    public ResponseEntity<ApiResponse<LikeResponse>> unlike(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable PostCategory category,
             @PathVariable Long id
     ) {
         Long userId = principal.id();
-        postLikeService.unlike(category, id, userId);
-        ApiResponse<Void> body = new ApiResponse<>("좋아요가 취소되었습니다.");
+        LikeResponse like = postLikeService.unlike(category, id, userId);
+        ApiResponse<LikeResponse> body = new ApiResponse<>("좋아요가 취소되었습니다.", like);
         return ResponseEntity.ok(body);
     }
 
     // ========================================
     // 댓글
     // 생성: POST /api/posts/{category}/{id}/comments
-    // 조회: GET  /api/posts/{category}/{id}/comments
+    // 조회: GET  /api/posts/{category}/{id}/comments?cursor=&size=
     // 수정: PUT    /api/posts/comments/{commentId}
     // 삭제: DELETE /api/posts/comments/{commentId}
     // ========================================
@@ -293,6 +256,16 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(body);
     }
 
+    @GetMapping("/{category}/{id}/comments")
+    public ResponseEntity<CursorResponse<CommentResponse>> comments(
+            @PathVariable PostCategory category,
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getComments(category, id, cursor, size));
+    }
+
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<ApiResponse<Void>> updateComment(
             @AuthenticationPrincipal UserPrincipal principal,
@@ -319,22 +292,11 @@ public class PostController {
     // ========================================
     // 메인 페이지용 최신 글 2개씩
     // GET /api/posts/main
+    // - HomeFeedService 캐시에서 응답 (글 변경 시 무효화)
     // ========================================
     @GetMapping("/main")
     public ResponseEntity<HomePostsResponse> getMainPosts() {
-
-        // 각 게시판마다 최신순 2개만
-        Page<PostListItemResponse> roommatePage = roommatePostService.getList(0, 2);
-        Page<PostListItemResponse> freePage      = freePostService.getList(0, 2);
-        Page<PostListItemResponse> policyPage    = policyPostService.getList(0, 2);
-
-        HomePostsResponse body = new HomePostsResponse(
-                roommatePage.getContent(),
-                freePage.getContent(),
-                policyPage.getContent()
-        );
-
-        return ResponseEntity.ok(body);
+        return ResponseEntity.ok(homeFeedService.getHomePosts());
     }
 
 }
@@ -1,13 +1,22 @@
 package com.ganzithon.homemate.controller;
 
+import com.ganzithon.homemate.dto.CursorResponse;
+import com.ganzithon.homemate.dto.Profile.ActivityItemResponse;
+import com.ganzithon.homemate.dto.Profile.ActivityType;
 import com.ganzithon.homemate.dto.Profile.ProfileResponse;
 import com.ganzithon.homemate.dto.Profile.ProfileUpdateRequest;
+import com.ganzithon.homemate.dto.Profile.RoommateMatchResponse;
 import com.ganzithon.homemate.security.UserPrincipal;
+import com.ganzithon.homemate.service.ActivityService;
 import com.ganzithon.homemate.service.ProfileService;
+import com.ganzithon.homemate.service.image.AvatarSize;
+import com.ganzithon.homemate.service.matching.RoommateMatchingService;
+import com.ganzithon.homemate.service.storage.ImageFileResponder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +24,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 
 @RestController
@@ -23,6 +34,9 @@ import java.time.LocalDate;
 public class ProfileController {
 
     private final ProfileService profileService;
+    private final ActivityService activityService;
+    private final RoommateMatchingService roommateMatchingService;
+    private final ImageFileResponder imageFileResponder;
 
     // 본인 프로필 조회 (GET)
     @GetMapping("/me")
@@ -100,6 +114,32 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    // 내 활동 (GET) - 내가 쓴 글/댓글/좋아요를 최신순으로
+    // type 없음: 전체, type=POST|COMMENT|LIKE: 해당 종류만
+    @GetMapping("/me/activities")
+    public ResponseEntity<CursorResponse<ActivityItemResponse>> getMyActivities(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(name = "type", required = false) ActivityType type,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(activityService.getActivities(principal.id(), type, cursor, size));
+    }
+
+    // 룸메이트 매칭 (GET) - 희망 지역/입주 희망일이 맞는 사용자와 ROOMMATE 글
+    // 희망 지역을 적지 않았으면 빈 결과
+    @GetMapping("/me/matches")
+    public ResponseEntity<RoommateMatchResponse> getMyMatches(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(roommateMatchingService.match(principal.id(), size));
+    }
+
     // 타인 프로필 조회
     @GetMapping("/{userId}")
     public ResponseEntity<ProfileResponse> getUserProfile(@PathVariable("userId") Long userId) {
@@ -107,34 +147,19 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    // 프로필 이미지 (GET)
+    // 같은 URL 로 이미지가 바뀌므로 no-cache + ETag 재검증 (변경 없으면 304)
+    // size=small|large (기본 large), 업로드 때 만들어 둔 정사각형 JPEG
     @GetMapping("/image/{userId}")
-    public ResponseEntity<Resource> getProfileImage(@PathVariable("userId") Long userId) {
-        try {
-            Resource resource = profileService.loadProfileImage(userId);
-            String contentType = "application/octet-stream";
-            
-            try {
-                String filename = resource.getFilename();
-                if (filename != null) {
-                    if (filename.toLowerCase().endsWith(".jpg") || filename.toLowerCase().endsWith(".jpeg")) {
-                        contentType = MediaType.IMAGE_JPEG_VALUE;
-                    } else if (filename.toLowerCase().endsWith(".png")) {
-                        contentType = MediaType.IMAGE_PNG_VALUE;
-                    } else if (filename.toLowerCase().endsWith(".gif")) {
-                        contentType = MediaType.IMAGE_GIF_VALUE;
-                    }
-                }
-            } catch (Exception ignored) {
-                // 기본값 사용
-            }
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
+    public void getProfileImage(@PathVariable("userId") Long userId,
+                                @RequestParam(name = "size", required = false) String size,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        Path file = profileService.findProfileImageFile(userId, AvatarSize.fromParam(size));
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
         }
+        imageFileResponder.write(file, CacheControl.noCache(), request, response);
     }
 }
-
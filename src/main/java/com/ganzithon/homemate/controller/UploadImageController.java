@@ -0,0 +1,65 @@
+package com.ganzithon.homemate.controller;
+
+import com.ganzithon.homemate.service.storage.ImageFileResponder;
+import com.ganzithon.homemate.service.storage.PostImageFiles;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+
+// ========================================
+// 게시글 이미지 파일
+// GET /uploads/{dir}/{filename}
+// - 파일명이 매번 새로 만들어지거나(UUID) 내용 해시(blob)라 덮어쓰지 않음 → 1년 immutable 캐시
+// - S3 저장소면 presigned GET 으로 리다이렉트 (바이트는 저장소에서 바로)
+// ========================================
+@RestController
+public class UploadImageController {
+
+    private static final Set<String> DIRS = Set.of("roommate", "free", "policy", "blob");
+
+    private final ImageFileResponder imageFileResponder;
+    private final PostImageFiles postImageFiles;
+    private final Path uploadDir;
+
+    public UploadImageController(ImageFileResponder imageFileResponder,
+                                 PostImageFiles postImageFiles,
+                                 @Value("${homemate.upload-dir:./uploads}") String uploadDir) {
+        this.imageFileResponder = imageFileResponder;
+        this.postImageFiles = postImageFiles;
+        this.uploadDir = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    @GetMapping("/uploads/{dir}/{filename}")
+    public void image(@PathVariable String dir,
+                      @PathVariable String filename,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        if (!DIRS.contains(dir) || filename.contains("..") || filename.contains("/") || filename.contains("\\")) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Optional<String> presigned = postImageFiles.presignDownload("/uploads/" + dir + "/" + filename);
+        if (presigned.isPresent()) {
+            // 서명 URL 은 만료되므로 짧게만 캐시
+            response.setHeader("Cache-Control", "private, max-age=60");
+            response.sendRedirect(presigned.get());
+            return;
+        }
+
+        Path file = uploadDir.resolve(dir).resolve(filename).normalize();
+        if (!file.startsWith(uploadDir)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        imageFileResponder.write(file, ImageFileResponder.IMMUTABLE, request, response);
+    }
+}
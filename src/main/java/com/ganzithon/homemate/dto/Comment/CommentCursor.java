@@ -0,0 +1,40 @@
+package com.ganzithon.homemate.dto.Comment;
+
+import com.ganzithon.homemate.entity.Comment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 댓글 커서: 마지막으로 받은 댓글의 (createdAt, id)
+// - 클라이언트에는 불투명한 문자열(Base64 URL)로만 노출
+public record CommentCursor(Instant createdAt, Long id) {
+
+    public static CommentCursor of(Comment comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null/빈 값이면 첫 페이지
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('_');
+            return new CommentCursor(
+                    Instant.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
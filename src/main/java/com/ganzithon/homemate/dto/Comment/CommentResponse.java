@@ -1,7 +1,7 @@
 package com.ganzithon.homemate.dto.Comment;
 
+import com.ganzithon.homemate.dto.UserSummary;
 import com.ganzithon.homemate.entity.Comment;
-import com.ganzithon.homemate.entity.User;
 
 import java.time.Instant;
 
@@ -19,7 +19,7 @@ public class CommentResponse {
     }
 
     // 정적 팩토리
-    public static CommentResponse from(Comment comment, User writer) {
+    public static CommentResponse from(Comment comment, UserSummary writer) {
         CommentResponse dto = new CommentResponse();
         dto.id = comment.getId();
         dto.userId = comment.getUserId();
@@ -28,8 +28,8 @@ public class CommentResponse {
         dto.updatedAt = comment.getUpdatedAt();
 
         if (writer != null) {
-            dto.writerLoginId = writer.getLoginId();
-            dto.writerProfileImagePath = "/api/profile/image/" + writer.getId();
+            dto.writerLoginId = writer.loginId();
+            dto.writerProfileImagePath = writer.profileImageUrl();
         }
 
         return dto;
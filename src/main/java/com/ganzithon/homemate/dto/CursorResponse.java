@@ -0,0 +1,45 @@
+package com.ganzithon.homemate.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 커서(keyset) 페이지 응답
+// - nextCursor 를 그대로 다음 요청의 cursor 로 넘기면 됨 (마지막 페이지면 null)
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public CursorResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = (nextCursor != null);
+    }
+
+    // rows 는 size + 1 개까지 조회한 결과 (한 개 더 있으면 다음 페이지 존재)
+    public static <E, T> CursorResponse<T> of(
+            List<E> rows,
+            int size,
+            Function<E, T> mapper,
+            Function<E, String> cursorOf
+    ) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorResponse<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
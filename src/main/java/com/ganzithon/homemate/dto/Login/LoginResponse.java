@@ -1,3 +1,3 @@
 package com.ganzithon.homemate.dto.Login;
 
-public record LoginResponse(String accessToken) {}
\ No newline at end of file
+public record LoginResponse(String accessToken, String refreshToken) {}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.ganzithon.homemate.dto.Login;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshRequest(
+        @NotBlank(message = "refresh token 은 필수 값입니다.") String refreshToken
+) {}
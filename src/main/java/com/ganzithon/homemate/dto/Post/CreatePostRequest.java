@@ -4,6 +4,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import java.util.List;
+
 
 public class CreatePostRequest {
 
@@ -33,6 +35,11 @@ public class CreatePostRequest {
     private String openchatUrl;
 
 
+    // presigned URL 로 직접 올린 이미지 (images 파일 뒤에 이어 붙음)
+    @Size(max = 10)
+    private List<String> imageUrls;
+
+
     public PostCategory getCategory() {
         return category;
     }
@@ -91,4 +98,14 @@ public class CreatePostRequest {
     public void setOpenchatUrl(String openchatUrl) {
         this.openchatUrl = openchatUrl;
     }
-}
\ No newline at end of file
+
+
+    public List<String> getImageUrls() {
+        return imageUrls;
+    }
+
+
+    public void setImageUrls(List<String> imageUrls) {
+        this.imageUrls = imageUrls;
+    }
+}
@@ -0,0 +1,4 @@
+package com.ganzithon.homemate.dto.Post;
+
+// 좋아요/취소 후 상태와 좋아요 수
+public record LikeResponse(boolean liked, long likeCount) {}
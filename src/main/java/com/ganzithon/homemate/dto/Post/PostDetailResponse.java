@@ -1,13 +1,9 @@
 package com.ganzithon.homemate.dto.Post;
 
 import com.ganzithon.homemate.dto.Comment.CommentResponse;
-import com.ganzithon.homemate.entity.Post.RoommatePost;
-import com.ganzithon.homemate.entity.Post.RoommatePostImage;
-import com.ganzithon.homemate.entity.Post.FreePost;
-import com.ganzithon.homemate.entity.Post.FreePostImage;
-import com.ganzithon.homemate.entity.Post.PolicyPost;
-import com.ganzithon.homemate.entity.Post.PolicyPostImage;
-import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.dto.UserSummary;
+import com.ganzithon.homemate.entity.Post.Post;
+import com.ganzithon.homemate.entity.Post.PostImage;
 
 import java.time.Instant;
 import java.util.List;
@@ -24,7 +20,8 @@ public class PostDetailResponse {
     private Long viewCount;
     private Instant createdAt;
     private PostCategory category;
-    private List<String> imageUrls;
+    private List<String> imageUrls;              // 원본
+    private List<PostImageResponse> images;      // 원본 + 변환본 (목록/상세 화면용)
 
     // ROOMMATE 전용
     private String openchatUrl;
@@ -35,13 +32,13 @@ public class PostDetailResponse {
 
     // 댓글
     private long commentCount;
-    private List<CommentResponse> comments;
+    private List<CommentResponse> comments;      // 첫 페이지
+    private String commentsNextCursor;           // 다음 페이지 커서 (없으면 null)
 
     public PostDetailResponse() {
     }
 
-    // ===== Roommate =====
-    public static PostDetailResponse fromRoommate(RoommatePost post, User writer) {
+    public static PostDetailResponse from(Post post, UserSummary writer) {
         PostDetailResponse dto = new PostDetailResponse();
         dto.id = post.getId();
         dto.title = post.getTitle();
@@ -49,67 +46,23 @@ public class PostDetailResponse {
         dto.userId = post.getUserId();
 
         if (writer != null) {
-            dto.writerLoginId = writer.getLoginId();
-            dto.writerProfileImagePath = "/api/profile/image/" + writer.getId();
+            dto.writerLoginId = writer.loginId();
+            dto.writerProfileImagePath = writer.profileImageUrl();
         }
 
         dto.viewCount = post.getViewCount();
         dto.createdAt = post.getCreatedAt();
-        dto.category = PostCategory.ROOMMATE;
+        dto.category = post.getCategory();
 
         dto.imageUrls = post.getImages().stream()
-                .map(RoommatePostImage::getUrl)
+                .map(PostImage::getUrl)
                 .toList();
-
-        dto.openchatUrl = post.getOpenchatUrl();
-        return dto;
-    }
-
-    // ===== Free =====
-    public static PostDetailResponse fromFree(FreePost post, User writer) {
-        PostDetailResponse dto = new PostDetailResponse();
-        dto.id = post.getId();
-        dto.title = post.getTitle();
-        dto.content = post.getContent();
-        dto.userId = post.getUserId();
-
-        if (writer != null) {
-            dto.writerLoginId = writer.getLoginId();
-            dto.writerProfileImagePath = "/api/profile/image/" + writer.getId();
-        }
-
-        dto.viewCount = post.getViewCount();
-        dto.createdAt = post.getCreatedAt();
-        dto.category = PostCategory.FREE;
-
-        dto.imageUrls = post.getImages().stream()
-                .map(FreePostImage::getUrl)
-                .toList();
-
-        return dto;
-    }
-
-    // ===== Policy =====
-    public static PostDetailResponse fromPolicy(PolicyPost post, User writer) {
-        PostDetailResponse dto = new PostDetailResponse();
-        dto.id = post.getId();
-        dto.title = post.getTitle();
-        dto.content = post.getContent();
-        dto.userId = post.getUserId();
-
-        if (writer != null) {
-            dto.writerLoginId = writer.getLoginId();
-            dto.writerProfileImagePath = "/api/profile/image/" + writer.getId();
-        }
-
-        dto.viewCount = post.getViewCount();
-        dto.createdAt = post.getCreatedAt();
-        dto.category = PostCategory.POLICY;
-
-        dto.imageUrls = post.getImages().stream()
-                .map(PolicyPostImage::getUrl)
+        dto.images = post.getImages().stream()
+                .map(PostImageResponse::from)
                 .toList();
 
+        // ROOMMATE 외 게시판은 null
+        dto.openchatUrl = post.getOpenchatUrl();
         return dto;
     }
 
@@ -132,14 +85,18 @@ public class PostDetailResponse {
     public Instant getCreatedAt() { return createdAt; }
     public PostCategory getCategory() { return category; }
     public List<String> getImageUrls() { return imageUrls; }
+    public List<PostImageResponse> getImages() { return images; }
     public String getOpenchatUrl() { return openchatUrl; }
     public long getLikeCount() { return likeCount; }
     public Boolean getLikedByMe() { return likedByMe; }
     public long getCommentCount() { return commentCount; }
     public List<CommentResponse> getComments() { return comments; }
+    public String getCommentsNextCursor() { return commentsNextCursor; }
 
+    public void setViewCount(Long viewCount) { this.viewCount = viewCount; }
     public void setLikeCount(long likeCount) { this.likeCount = likeCount; }
     public void setLikedByMe(Boolean likedByMe) { this.likedByMe = likedByMe; }
     public void setCommentCount(long commentCount) { this.commentCount = commentCount; }
     public void setComments(List<CommentResponse> comments) { this.comments = comments; }
+    public void setCommentsNextCursor(String commentsNextCursor) { this.commentsNextCursor = commentsNextCursor; }
 }
@@ -0,0 +1,16 @@
+package com.ganzithon.homemate.dto.Post;
+
+import com.ganzithon.homemate.entity.Post.PostImage;
+
+// 변환본이 아직 없으면 원본 URL 로 채움
+public record PostImageResponse(String url, String mediumUrl, String thumbnailUrl) {
+
+    public static PostImageResponse from(PostImage image) {
+        String url = image.getUrl();
+        return new PostImageResponse(
+                url,
+                image.getMediumUrl() != null ? image.getMediumUrl() : url,
+                image.getThumbnailUrl() != null ? image.getThumbnailUrl() : url
+        );
+    }
+}
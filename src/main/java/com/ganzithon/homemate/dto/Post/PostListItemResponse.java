@@ -1,12 +1,8 @@
 package com.ganzithon.homemate.dto.Post;
 
-import com.ganzithon.homemate.entity.Post.RoommatePost;
-import com.ganzithon.homemate.entity.Post.RoommatePostImage;
-import com.ganzithon.homemate.entity.Post.FreePost;
-import com.ganzithon.homemate.entity.Post.FreePostImage;
-import com.ganzithon.homemate.entity.Post.PolicyPost;
-import com.ganzithon.homemate.entity.Post.PolicyPostImage;
-import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.dto.UserSummary;
+import com.ganzithon.homemate.entity.Post.Post;
+import com.ganzithon.homemate.entity.Post.PostImage;
 
 import java.time.Instant;
 import java.util.Comparator;
@@ -36,10 +32,7 @@ public class PostListItemResponse {
         this.createdAt = createdAt;
     }
 
-    // ===============================================
-    // ROOMMATE
-    // ===============================================
-    public static PostListItemResponse fromRoommate(RoommatePost post, User writer) {
+    public static PostListItemResponse from(Post post, UserSummary writer) {
 
         PostListItemResponse dto = new PostListItemResponse(
                 post.getId(),
@@ -50,61 +43,12 @@ public class PostListItemResponse {
         );
 
         // 작성자 loginId만 세팅
-        dto.writerLoginId = (writer != null) ? writer.getLoginId() : null;
+        dto.writerLoginId = (writer != null) ? writer.loginId() : null;
 
+        // 썸네일 변환본이 아직 없으면 원본
         String thumbnail = post.getImages().stream()
-                .sorted(Comparator.comparingInt(RoommatePostImage::getOrderNo))
-                .map(RoommatePostImage::getUrl)
-                .findFirst()
-                .orElse(null);
-
-        dto.setThumbnailUrl(thumbnail);
-        return dto;
-    }
-
-    // ===============================================
-    // FREE
-    // ===============================================
-    public static PostListItemResponse fromFree(FreePost post, User writer) {
-
-        PostListItemResponse dto = new PostListItemResponse(
-                post.getId(),
-                post.getTitle(),
-                post.getUserId(),
-                post.getViewCount(),
-                post.getCreatedAt()
-        );
-
-        dto.writerLoginId = (writer != null) ? writer.getLoginId() : null;
-
-        String thumbnail = post.getImages().stream()
-                .sorted(Comparator.comparingInt(FreePostImage::getOrderNo))
-                .map(FreePostImage::getUrl)
-                .findFirst()
-                .orElse(null);
-
-        dto.setThumbnailUrl(thumbnail);
-        return dto;
-    }
-
-    // ===============================================
-    // POLICY
-    // ===============================================
-    public static PostListItemResponse fromPolicy(PolicyPost post, User writer) {
-
-        PostListItemResponse dto = new PostListItemResponse(
-                post.getId(),
-                post.getTitle(),
-                post.getUserId(),
-                post.getViewCount(),
-                post.getCreatedAt()
-        );
-
-        dto.writerLoginId = (writer != null) ? writer.getLoginId() : null;
-
-        String thumbnail = post.getImages().stream()
-                .sorted(Comparator.comparingInt(PolicyPostImage::getOrderNo))
-                .map(PolicyPostImage::getUrl)
+                .sorted(Comparator.comparingInt(PostImage::getOrderNo))
+                .map(img -> img.getThumbnailUrl() != null ? img.getThumbnailUrl() : img.getUrl())
                 .findFirst()
                 .orElse(null);
 
@@ -0,0 +1,18 @@
+package com.ganzithon.homemate.dto.Post;
+
+import java.time.LocalDate;
+
+// 게시판 목록 필터 (category 외에는 모두 선택)
+// - keyword: searchType 이 없으면 제목 검색
+// - sidoCode / sigunguCode: 지역 (모든 게시판 공통)
+// - from / to: 작성일 범위 (양 끝 포함, 한국 시간 기준)
+public record PostSearchCondition(
+        PostCategory category,
+        SearchType searchType,
+        String keyword,
+        String sidoCode,
+        String sigunguCode,
+        LocalDate from,
+        LocalDate to
+) {
+}
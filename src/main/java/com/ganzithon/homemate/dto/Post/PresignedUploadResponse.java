@@ -0,0 +1,16 @@
+package com.ganzithon.homemate.dto.Post;
+
+import java.time.Instant;
+import java.util.Map;
+
+// 클라이언트가 uploadUrl 로 직접 PUT 한 뒤, 글 작성/수정 때 imageUrl 을 imageUrls 로 전달
+// - headers 는 서명에 들어간 헤더라 PUT 에 그대로 보내야 함
+// - Content-Length 는 본문 크기로 자동 설정되므로 headers 에 없고, contentLength 와 같아야 함
+public record PresignedUploadResponse(
+        String uploadUrl,
+        Map<String, String> headers,
+        long contentLength,
+        String imageUrl,
+        Instant expiresAt
+) {
+}
@@ -1,5 +1,7 @@
 package com.ganzithon.homemate.dto.Post;
 
+import java.util.List;
+
 public class UpdatePostRequest {
 
     private PostCategory newCategory;
@@ -11,6 +13,9 @@ public class UpdatePostRequest {
     // ROOMMATE 전용 (null 가능)
     private String openchatUrl;
 
+    // presigned URL 로 직접 올린 이미지 (있으면 images 와 합쳐서 전체 교체)
+    private List<String> imageUrls;
+
     public String getTitle() {
         return title;
     }
@@ -55,4 +60,12 @@ public class UpdatePostRequest {
         this.newCategory = newCategory;
     }
 
+    public List<String> getImageUrls() {
+        return imageUrls;
+    }
+
+    public void setImageUrls(List<String> imageUrls) {
+        this.imageUrls = imageUrls;
+    }
+
 }
@@ -0,0 +1,38 @@
+package com.ganzithon.homemate.dto.Profile;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 내 활동 커서: 마지막으로 받은 항목의 (createdAt, type, id)
+// - 정렬 기준은 (createdAt, type, id) 내림차순
+public record ActivityCursor(Instant createdAt, ActivityType type, Long id) {
+
+    // 첫 페이지용 (모든 항목보다 뒤에 있는 위치, MySQL DATETIME 최대값)
+    public static final ActivityCursor FIRST =
+            new ActivityCursor(Instant.parse("9999-12-31T00:00:00Z"), ActivityType.LIKE, Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = createdAt + "_" + type + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null/빈 값이면 첫 페이지
+    public static ActivityCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("_");
+            return new ActivityCursor(
+                    Instant.parse(parts[0]),
+                    ActivityType.valueOf(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ganzithon.homemate.dto.Profile;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+
+import java.time.Instant;
+
+// 내 활동 한 건
+// - id: type 에 따라 게시글/댓글/좋아요 id
+// - content: COMMENT 일 때만 댓글 내용
+// - postTitle: 게시글이 삭제됐으면 null
+public record ActivityItemResponse(
+        ActivityType type,
+        Long id,
+        PostCategory category,
+        Long postId,
+        String postTitle,
+        String content,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.ganzithon.homemate.dto.Profile;
+
+// 내 활동 종류 (같은 시각이면 선언 순서가 뒤일수록 먼저 노출)
+public enum ActivityType {
+    POST,
+    COMMENT,
+    LIKE
+}
@@ -0,0 +1,17 @@
+package com.ganzithon.homemate.dto.Profile;
+
+import com.ganzithon.homemate.dto.Post.PostListItemResponse;
+
+import java.util.List;
+
+// 룸메이트 매칭 결과 (점수 내림차순)
+public record RoommateMatchResponse(
+        List<UserMatch> users,
+        List<PostMatch> posts
+) {
+    public record UserMatch(ProfileResponse profile, double score) {
+    }
+
+    public record PostMatch(PostListItemResponse post, double score) {
+    }
+}
@@ -1,4 +1,3 @@
 package com.ganzithon.homemate.dto;
 
-public record TokenResponse(String message, String accessToken) {}
-
+public record TokenResponse(String message, String accessToken, String refreshToken) {}
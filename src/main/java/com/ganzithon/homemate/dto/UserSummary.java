@@ -0,0 +1,13 @@
+package com.ganzithon.homemate.dto;
+
+// 목록/상세/댓글의 작성자 표시용 (User 엔티티 전체 대신)
+// - profileImageUrl: 작은 아바타 URL, 프로필 이미지가 없으면 null
+public record UserSummary(Long id, String loginId, String profileImageUrl) {
+
+    public static UserSummary of(Long id, String loginId, String profileImagePath) {
+        String imageUrl = (profileImagePath == null || profileImagePath.isEmpty())
+                ? null
+                : "/api/profile/image/" + id + "?size=small";
+        return new UserSummary(id, loginId, imageUrl);
+    }
+}
@@ -10,7 +10,15 @@ import java.time.Instant;
 
 @Getter
 @Entity
-@Table(name = "comment")
+@Table(
+        name = "comment",
+        indexes = {
+                // 게시글별 댓글 커서 페이지 (createdAt, id)
+                @Index(name = "idx_comment_post_created", columnList = "category, post_id, created_at, id"),
+                // 내가 쓴 댓글
+                @Index(name = "idx_comment_user_created", columnList = "user_id, created_at")
+        }
+)
 public class Comment {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -53,9 +61,4 @@ public class Comment {
     public void updateContent(String content) {
         this.content = content;
     }
-
-    public void moveTo(PostCategory category, Long postId) {
-        this.category = category;
-        this.postId = postId;
-    }
 }
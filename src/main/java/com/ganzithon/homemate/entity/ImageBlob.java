@@ -0,0 +1,52 @@
+package com.ganzithon.homemate.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+// 내용 주소 이미지 파일 (hash = SHA-256 hex) + 참조 수
+// 생성/증감은 ImageBlobRepository 의 INSERT/UPDATE 로만
+@Entity
+@Table(name = "image_blob")
+public class ImageBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(length = 512, nullable = false)
+    private String url;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private Instant createdAt;
+
+    protected ImageBlob() {
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+}
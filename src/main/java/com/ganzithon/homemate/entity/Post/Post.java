@@ -1,8 +1,10 @@
 package com.ganzithon.homemate.entity.Post;
 
 import com.ganzithon.homemate.dto.Post.CreatePostRequest;
+import com.ganzithon.homemate.dto.Post.PostCategory;
 import com.ganzithon.homemate.dto.Post.UpdatePostRequest;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,15 +12,29 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+// ROOMMATE / FREE / POLICY 게시글을 하나의 테이블에 저장
+// - category 컬럼으로 게시판 구분
+// - openchatUrl 은 ROOMMATE 전용, 지역은 POLICY에서 선택
 @Entity
-@Table(name = "roommate_post")
-public class RoommatePost {
+@Table(
+        name = "post",
+        indexes = {
+                @Index(name = "idx_post_category_created", columnList = "category, created_at"),
+                @Index(name = "idx_post_region_created", columnList = "category, sido_code, sigungu_code, created_at"),
+                @Index(name = "idx_post_user_created", columnList = "user_id, created_at")
+        }
+)
+public class Post {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PostCategory category;
+
+    @Column(name = "user_id", nullable = false)
     private Long userId; // 작성자 (User.id)
 
     @Column(length = 100, nullable = false)
@@ -28,42 +44,49 @@ public class RoommatePost {
     @Column(nullable = false)
     private String content;
 
-    @Column(length = 10, nullable = false)
+    @Column(length = 10)
     private String sidoCode;
 
-    @Column(length = 10, nullable = false)
+    @Column(length = 10)
     private String sigunguCode;
 
     @Column(nullable = false)
     private Long viewCount = 0L;
 
-    @Column(length = 255, nullable = false)
+    // ROOMMATE 전용
+    @Column(length = 255)
     private String openchatUrl;
 
+    // 목록에서 여러 게시글의 이미지를 IN 쿼리 한 번으로 로딩
+    @BatchSize(size = 100)
+    @OrderBy("orderNo ASC")
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<RoommatePostImage> images = new ArrayList<>();
+    private List<PostImage> images = new ArrayList<>();
 
     @CreationTimestamp
+    @Column(name = "created_at")
     private Instant createdAt;
 
     @UpdateTimestamp
     private Instant updatedAt;
 
-    protected RoommatePost() {
+    protected Post() {
     }
 
-    private RoommatePost(Long userId, String title, String content,
-                         String sidoCode, String sigunguCode, String openchatUrl) {
+    private Post(PostCategory category, Long userId, String title, String content,
+                 String sidoCode, String sigunguCode, String openchatUrl) {
+        this.category = category;
         this.userId = userId;
         this.title = title;
         this.content = content;
         this.sidoCode = sidoCode;
         this.sigunguCode = sigunguCode;
-        this.openchatUrl = openchatUrl;
+        this.openchatUrl = openchatUrlFor(category, openchatUrl);
     }
 
-    public static RoommatePost create(Long userId, CreatePostRequest req) {
-        return new RoommatePost(
+    public static Post create(Long userId, CreatePostRequest req) {
+        return new Post(
+                req.getCategory(),
                 userId,
                 req.getTitle(),
                 req.getContent(),
@@ -73,13 +96,19 @@ public class RoommatePost {
         );
     }
 
-
-    public void updateAll(UpdatePostRequest req) {
+    // 텍스트 전체 덮어쓰기 + 게시판 이동 (같은 row에서 category만 변경)
+    public void updateAll(PostCategory category, UpdatePostRequest req) {
+        this.category = category;
         this.title = req.getTitle();
         this.content = req.getContent();
         this.sidoCode = req.getSidoCode();
         this.sigunguCode = req.getSigunguCode();
-        this.openchatUrl = req.getOpenchatUrl();
+        this.openchatUrl = openchatUrlFor(category, req.getOpenchatUrl());
+    }
+
+    // 이미지는 컬렉션으로 관리 (orphanRemoval 로 row 정리)
+    private static String openchatUrlFor(PostCategory category, String openchatUrl) {
+        return category == PostCategory.ROOMMATE ? openchatUrl : null;
     }
 
     // ===== Getter & 기타 메서드 =====
@@ -88,6 +117,10 @@ public class RoommatePost {
         return id;
     }
 
+    public PostCategory getCategory() {
+        return category;
+    }
+
     public Long getUserId() {
         return userId;
     }
@@ -112,6 +145,10 @@ public class RoommatePost {
         return viewCount;
     }
 
+    public String getOpenchatUrl() {
+        return openchatUrl;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -120,18 +157,10 @@ public class RoommatePost {
         return updatedAt;
     }
 
-    public List<RoommatePostImage> getImages() {
+    public List<PostImage> getImages() {
         return images;
     }
 
-    public String getOpenchatUrl() {
-        return openchatUrl;
-    }
-
-    public void increaseViewCount() {
-        this.viewCount = this.viewCount + 1;
-    }
-
     public boolean isOwner(Long targetUserId) {
         return this.userId != null && this.userId.equals(targetUserId);
     }
@@ -0,0 +1,78 @@
+package com.ganzithon.homemate.entity.Post;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+
+@Entity
+@Table(name = "post_image")
+public class PostImage {
+
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(name = "fk_post_image_post"))
+    private Post post;
+
+
+    @Column(length = 512, nullable = false)
+    private String url;
+
+
+    @Column(nullable = false)
+    private short orderNo;
+
+
+    // 비동기 변환 완료 전에는 null (원본으로 대체)
+    @Column(length = 512)
+    private String thumbnailUrl;
+
+
+    @Column(length = 512)
+    private String mediumUrl;
+
+
+    protected PostImage() {
+    }
+
+
+    private PostImage(Post post, String url, short orderNo) {
+        this.post = post;
+        this.url = url;
+        this.orderNo = orderNo;
+    }
+
+
+    public static PostImage of(Post post, String url, int orderNo) {
+        return new PostImage(post, url, (short) orderNo);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public short getOrderNo() {
+        return orderNo;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public String getMediumUrl() {
+        return mediumUrl;
+    }
+
+}
@@ -10,7 +10,12 @@ import java.time.Instant;
 @Table(
         name = "post_like",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"category", "post_id", "user_id"})
+                // 좋아요 수/여부 조회도 이 인덱스로 처리
+                @UniqueConstraint(name = "uk_post_like_category_post_user", columnNames = {"category", "post_id", "user_id"})
+        },
+        indexes = {
+                // 내가 누른 좋아요
+                @Index(name = "idx_post_like_user_created", columnList = "user_id, created_at")
         }
 )
 public class PostLike {
@@ -44,10 +49,5 @@ public class PostLike {
     public static PostLike create(PostCategory category, Long postId, Long userId) {
         return new PostLike(category, postId, userId);
     }
-
-    public void moveTo(PostCategory category, Long postId) {
-        this.category = category;
-        this.postId = postId;
-    }
 }
 
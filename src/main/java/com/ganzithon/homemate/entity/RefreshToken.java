@@ -0,0 +1,89 @@
+package com.ganzithon.homemate.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+// refresh token (원문은 저장하지 않고 SHA-256 hex 만)
+// - familyId: 같은 로그인에서 회전으로 이어진 토큰 묶음
+// - accessJti: 이 토큰과 함께 발급된 access token id (family 폐기 시 denylist 에 추가)
+@Entity
+@Table(name = "refresh_token")
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 64, nullable = false, unique = true)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(length = 36, nullable = false)
+    private String familyId;
+
+    @Column(length = 36, nullable = false)
+    private String accessJti;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    private Instant usedAt;
+
+    private Instant revokedAt;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private Instant createdAt;
+
+    protected RefreshToken() {
+    }
+
+    private RefreshToken(String tokenHash, Long userId, String familyId, String accessJti, Instant expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.familyId = familyId;
+        this.accessJti = accessJti;
+        this.expiresAt = expiresAt;
+    }
+
+    public static RefreshToken issue(String tokenHash, Long userId, String familyId, String accessJti, Instant expiresAt) {
+        return new RefreshToken(tokenHash, userId, familyId, accessJti, expiresAt);
+    }
+
+    public boolean isUsable(Instant now) {
+        return revokedAt == null && now.isBefore(expiresAt);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public String getAccessJti() {
+        return accessJti;
+    }
+
+    public Instant getUsedAt() {
+        return usedAt;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+}
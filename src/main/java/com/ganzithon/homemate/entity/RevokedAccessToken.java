@@ -0,0 +1,41 @@
+package com.ganzithon.homemate.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+// 폐기된 access token id (토큰 만료 시각이 지나면 삭제)
+@Entity
+@Table(name = "revoked_access_token")
+public class RevokedAccessToken {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    protected RevokedAccessToken() {
+    }
+
+    private RevokedAccessToken(String jti, Instant expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+
+    public static RevokedAccessToken of(String jti, Instant expiresAt) {
+        return new RevokedAccessToken(jti, expiresAt);
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
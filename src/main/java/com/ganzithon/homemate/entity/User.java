@@ -1,6 +1,5 @@
 package com.ganzithon.homemate.entity;
 
-import com.ganzithon.homemate.dto.Login.LoginResponse;
 import com.ganzithon.homemate.jwt.JwtTokenProvider;
 import com.ganzithon.homemate.security.UserPrincipal;
 import jakarta.persistence.Column;
@@ -72,15 +71,11 @@ public class User {
         throw new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다.");
     }
 
-    public LoginResponse issueAccessToken(JwtTokenProvider tokenProvider) {
-        String accessToken = createAccessToken(tokenProvider);
-        return new LoginResponse(accessToken);
-    }
-
-    public String createAccessToken(JwtTokenProvider tokenProvider) {
+    public String createAccessToken(JwtTokenProvider tokenProvider, String tokenId) {
         requirePersisted();
         return tokenProvider.createAccessToken(
                 String.valueOf(id),
+                tokenId,
                 Map.of("loginId", account.loginIdValue())
         );
     }
@@ -0,0 +1,11 @@
+package com.ganzithon.homemate.event;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+
+// 게시글 생성/수정/삭제/게시판 이동 시 발행 (커밋 이후 캐시 무효화 등에 사용)
+public record PostChangedEvent(PostCategory category, Long postId) {
+
+    public static PostChangedEvent of(PostCategory category, Long postId) {
+        return new PostChangedEvent(category, postId);
+    }
+}
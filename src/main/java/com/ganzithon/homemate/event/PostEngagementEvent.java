@@ -0,0 +1,27 @@
+package com.ganzithon.homemate.event;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+
+// 조회/좋아요/댓글 발생 시 발행 (커밋 이후 인기글 점수 갱신에 사용)
+// - VIEW, COMMENT: value 는 증감량
+// - LIKE_COUNT: value 는 반영 후 전체 좋아요 수
+public record PostEngagementEvent(PostCategory category, Long postId, Kind kind, long value) {
+
+    public enum Kind {
+        VIEW,
+        LIKE_COUNT,
+        COMMENT
+    }
+
+    public static PostEngagementEvent view(PostCategory category, Long postId) {
+        return new PostEngagementEvent(category, postId, Kind.VIEW, 1);
+    }
+
+    public static PostEngagementEvent likeCount(PostCategory category, Long postId, long likeCount) {
+        return new PostEngagementEvent(category, postId, Kind.LIKE_COUNT, likeCount);
+    }
+
+    public static PostEngagementEvent comment(PostCategory category, Long postId, long delta) {
+        return new PostEngagementEvent(category, postId, Kind.COMMENT, delta);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ganzithon.homemate.event;
+
+// 프로필(이미지 포함) 변경 커밋 시 → 작성자 요약 캐시 제거
+public record ProfileChangedEvent(Long userId) {
+
+    public static ProfileChangedEvent of(Long userId) {
+        return new ProfileChangedEvent(userId);
+    }
+}
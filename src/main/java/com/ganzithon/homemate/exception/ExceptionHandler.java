@@ -2,6 +2,7 @@ package com.ganzithon.homemate.exception;
 
 import com.ganzithon.homemate.dto.MessageResponse;
 import java.util.Objects;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -14,5 +15,11 @@ public class ExceptionHandler {
         String message = Objects.requireNonNullElse(ex.getMessage(), "요청을 처리할 수 없습니다.");
         return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse(message));
     }
-}
 
+    @org.springframework.web.bind.annotation.ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<MessageResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new MessageResponse(ex.getMessage()));
+    }
+}
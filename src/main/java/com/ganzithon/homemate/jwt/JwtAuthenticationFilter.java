@@ -1,7 +1,7 @@
 package com.ganzithon.homemate.jwt;
 
-import com.ganzithon.homemate.entity.User;
-import com.ganzithon.homemate.repository.UserRepository;
+import com.ganzithon.homemate.security.AccessTokenDenylist;
+import com.ganzithon.homemate.security.PrincipalResolver;
 import com.ganzithon.homemate.security.UserPrincipal;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -9,22 +9,30 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Optional;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+// 요청마다 DB 를 조회하지 않음
+// - principal 은 PrincipalResolver 가 클레임/캐시로 생성
+// - 폐기 여부는 메모리 denylist 로 확인
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String BEARER_PREFIX = "Bearer ";
     private final JwtTokenProvider tokenProvider;
-    private final UserRepository userRepository;
+    private final PrincipalResolver principalResolver;
+    private final AccessTokenDenylist denylist;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserRepository userRepository) {
+    public JwtAuthenticationFilter(
+            JwtTokenProvider tokenProvider,
+            PrincipalResolver principalResolver,
+            AccessTokenDenylist denylist
+    ) {
         this.tokenProvider = tokenProvider;
-        this.userRepository = userRepository;
+        this.principalResolver = principalResolver;
+        this.denylist = denylist;
     }
 
     @Override
@@ -40,16 +48,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private void authenticateIfPossible(String token, HttpServletRequest request) {
         try {
             Claims claims = tokenProvider.parseAccess(token);
-            Long userId = Long.valueOf(claims.getSubject());
-            Optional<User> userOptional = userRepository.findById(userId);
-            userOptional.ifPresent(user -> setAuthentication(user, request));
+            if (denylist.isRevoked(claims.getId())) {
+                return;
+            }
+            principalResolver.resolve(claims).ifPresent(principal -> setAuthentication(principal, request));
         } catch (Exception ignored) {
             // 유효하지 않은 토큰이면 인증을 건너뛴다.
         }
     }
 
-    private void setAuthentication(User user, HttpServletRequest request) {
-        UserPrincipal principal = user.toPrincipal();
+    private void setAuthentication(UserPrincipal principal, HttpServletRequest request) {
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -12,6 +12,10 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
 
     private String accessTokenSecret;
-    private long accessTokenExpiration;   
+    // access token 은 짧게 (기본 15분), 재발급은 refresh token 으로
+    private long accessTokenExpiration = 15 * 60 * 1000L;
+    private long refreshTokenExpiration = 14 * 24 * 60 * 60 * 1000L;
+    // 검증 완료 토큰 캐시 크기 (0 이면 캐시 사용 안 함)
+    private long verifiedTokenCacheSize = 10_000;
 }
 
@@ -1,28 +1,64 @@
 package com.ganzithon.homemate.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
     private final JwtProperties props;
 
     private SecretKey accessKey;
 
+    // JwtParser 는 불변/스레드 안전 → 한 번만 생성
+    private JwtParser accessParser;
+
+    // 검증 완료 토큰: SHA-256(token) → claims, 토큰 만료 시각까지만 보관
+    // - 같은 토큰이 반복해서 오면 서명 검증/JSON 파싱 생략
+    private Cache<String, Claims> verifiedTokens;
+
     @jakarta.annotation.PostConstruct
-    void init() {
+    public void init() {
         this.accessKey = createKey(props.getAccessTokenSecret());
+        this.accessParser = Jwts.parser()
+                .verifyWith(accessKey)
+                .build();
+        this.verifiedTokens = props.getVerifiedTokenCacheSize() > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(props.getVerifiedTokenCacheSize())
+                        .expireAfter(new UntilTokenExpiry())
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    // 검증 캐시 적중률 (비활성화면 등록하지 않음)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (verifiedTokens != null) {
+            CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwt.verified-token");
+        }
     }
 
     /**
@@ -74,10 +110,12 @@ public class JwtTokenProvider {
         }
     }
 
-    public String createAccessToken(String subject, Map<String, Object> claims) {
+    // tokenId(jti): 로그아웃/재사용 감지 시 access token 폐기에 사용
+    public String createAccessToken(String subject, String tokenId, Map<String, Object> claims) {
         long now = System.currentTimeMillis();
         return Jwts.builder()
                 .subject(subject)
+                .id(tokenId)
                 .claims(claims)
                 .issuedAt(new Date(now))
                 .expiration(new Date(now + props.getAccessTokenExpiration()))
@@ -86,10 +124,49 @@ public class JwtTokenProvider {
     }
 
     public Claims parseAccess(String token) {
-        return Jwts.parser()
-                .verifyWith(accessKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        if (verifiedTokens == null) {
+            return verify(token);
+        }
+
+        // 검증 실패 시 예외가 그대로 전파되고 캐시에는 남지 않음
+        return verifiedTokens.get(tokenHash(token), key -> verify(token));
+    }
+
+    private Claims verify(String token) {
+        return accessParser.parseSignedClaims(token).getPayload();
+    }
+
+    private static String tokenHash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 항목별 만료 = 토큰 exp (exp 가 없으면 캐시하지 않음)
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -2,18 +2,85 @@ package com.ganzithon.homemate.repository;
 
 import com.ganzithon.homemate.dto.Post.PostCategory;
 import com.ganzithon.homemate.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByCategoryAndPostIdOrderByCreatedAtAsc(PostCategory category, Long postId);
+    // 댓글 첫 페이지
+    List<Comment> findByCategoryAndPostIdOrderByCreatedAtAscIdAsc(PostCategory category, Long postId, Limit limit);
+
+    // 커서 (createdAt, id) 다음 페이지 - idx_comment_post_created 범위 스캔
+    @Query("""
+            select c from Comment c
+            where c.category = :category and c.postId = :postId
+              and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))
+            order by c.createdAt asc, c.id asc
+            """)
+    List<Comment> findPageAfter(@Param("category") PostCategory category,
+                                @Param("postId") Long postId,
+                                @Param("createdAt") Instant createdAt,
+                                @Param("id") Long id,
+                                Limit limit);
 
     long countByCategoryAndPostId(PostCategory category, Long postId);
 
+    // 여러 게시글의 댓글 수를 GROUP BY 한 번으로 조회
+    @Query("""
+            select c.postId as postId, count(c) as count
+            from Comment c
+            where c.category = :category and c.postId in :postIds
+            group by c.postId
+            """)
+    List<PostCommentCount> countGroupByPostId(@Param("category") PostCategory category,
+                                              @Param("postIds") Collection<Long> postIds);
+
     Optional<Comment> findByIdAndUserId(Long id, Long userId);
 
-    List<Comment> findByCategoryAndPostId(PostCategory category, Long postId);
-}
\ No newline at end of file
+    // 게시판 이동 시 댓글 전체를 UPDATE 한 번으로 이동
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Comment c
+            set c.category = :toCategory, c.postId = :toPostId
+            where c.category = :fromCategory and c.postId = :fromPostId
+            """)
+    int moveAll(@Param("fromCategory") PostCategory fromCategory,
+                @Param("fromPostId") Long fromPostId,
+                @Param("toCategory") PostCategory toCategory,
+                @Param("toPostId") Long toPostId);
+
+    // 내가 쓴 댓글: (createdAt, id) 보다 오래된 것부터 - idx_comment_user_created
+    @Query("""
+            select c.id as id, c.category as category, c.postId as postId,
+                   c.content as content, c.createdAt as createdAt
+            from Comment c
+            where c.userId = :userId
+              and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))
+            order by c.createdAt desc, c.id desc
+            """)
+    List<UserCommentRow> findUserCommentsBefore(@Param("userId") Long userId,
+                                                @Param("createdAt") Instant createdAt,
+                                                @Param("id") Long id,
+                                                Limit limit);
+
+    interface PostCommentCount {
+        Long getPostId();
+        long getCount();
+    }
+
+    interface UserCommentRow {
+        Long getId();
+        PostCategory getCategory();
+        Long getPostId();
+        String getContent();
+        Instant getCreatedAt();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ganzithon.homemate.repository;
+
+import com.ganzithon.homemate.entity.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// 참조 수 증감은 단일 UPDATE 로 (읽고 쓰는 사이 경합 없음)
+// 파일 생성/삭제는 행 잠금(SELECT ... FOR UPDATE) 을 잡은 채로 → 인스턴스가 여러 대여도 직렬화
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from ImageBlob b where b.hash = :hash")
+    Optional<ImageBlob> findForUpdate(@Param("hash") String hash);
+
+    // 새 blob (참조 1), merge 가 아니라 INSERT 라 먼저 등록된 행이 있으면 PK 충돌
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO image_blob (hash, url, size, ref_count, created_at)
+            VALUES (:hash, :url, :size, 1, CURRENT_TIMESTAMP(6))
+            """, nativeQuery = true)
+    int insertFirst(@Param("hash") String hash, @Param("url") String url, @Param("size") long size);
+
+    @Transactional
+    @Modifying
+    @Query("update ImageBlob b set b.refCount = b.refCount + 1 where b.hash = :hash")
+    int increment(@Param("hash") String hash);
+
+    @Transactional
+    @Modifying
+    @Query("update ImageBlob b set b.refCount = b.refCount - 1 where b.hash = :hash and b.refCount > 0")
+    int decrement(@Param("hash") String hash);
+}
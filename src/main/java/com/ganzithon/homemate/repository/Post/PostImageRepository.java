@@ -0,0 +1,49 @@
+package com.ganzithon.homemate.repository.Post;
+
+import com.ganzithon.homemate.entity.Post.PostImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostImageRepository extends JpaRepository<PostImage, Long>, PostImageRepositoryCustom {
+
+    // 아직 변환본이 없는 이미지
+    @Query("""
+            select i.id as id, i.url as url
+            from PostImage i
+            where i.post.id = :postId and i.thumbnailUrl is null
+            """)
+    List<PendingImage> findPendingVariants(@Param("postId") Long postId);
+
+    // 직접 업로드 URL 이 이미 다른 글의 이미지(원본 또는 변환본)인지
+    @Query("""
+            select count(i) > 0 from PostImage i
+            where i.url in :urls or i.thumbnailUrl in :urls or i.mediumUrl in :urls
+            """)
+    boolean existsAnyUrlIn(@Param("urls") Collection<String> urls);
+
+    // 이미지 전체 교체 시 기존 row 한 번에 삭제
+    @Modifying
+    @Query("delete from PostImage i where i.post.id = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("""
+            update PostImage i
+            set i.thumbnailUrl = :thumbnailUrl, i.mediumUrl = :mediumUrl
+            where i.id = :id and i.url = :url
+            """)
+    int updateVariants(@Param("id") Long id,
+                       @Param("url") String url,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("mediumUrl") String mediumUrl);
+
+    interface PendingImage {
+        Long getId();
+        String getUrl();
+    }
+}
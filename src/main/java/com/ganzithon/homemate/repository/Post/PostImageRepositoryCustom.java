@@ -0,0 +1,9 @@
+package com.ganzithon.homemate.repository.Post;
+
+import java.util.List;
+
+public interface PostImageRepositoryCustom {
+
+    // 이미지 row 를 JDBC 배치 한 번으로 저장 (orderNo = 리스트 순서)
+    void insertAll(Long postId, List<String> urls);
+}
@@ -0,0 +1,41 @@
+package com.ganzithon.homemate.repository.Post;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+// id 가 IDENTITY 라 Hibernate 는 insert 를 배치로 묶지 못함 → JdbcTemplate 배치
+public class PostImageRepositoryImpl implements PostImageRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "insert into post_image (post_id, url, order_no) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostImageRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(Long postId, List<String> urls) {
+        if (urls.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, postId);
+                ps.setString(2, urls.get(i));
+                ps.setShort(3, (short) i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return urls.size();
+            }
+        });
+    }
+}
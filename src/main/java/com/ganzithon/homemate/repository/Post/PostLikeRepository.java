@@ -2,18 +2,102 @@ package com.ganzithon.homemate.repository.Post;
 
 import com.ganzithon.homemate.dto.Post.PostCategory;
 import com.ganzithon.homemate.entity.Post.PostLike;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
-    boolean existsByCategoryAndPostIdAndUserId(PostCategory category, Long postId, Long userId);
+    long countByCategoryAndPostId(PostCategory category, Long postId);
 
-    Optional<PostLike> findByCategoryAndPostIdAndUserId(PostCategory category, Long postId, Long userId);
+    // 좋아요 수 + 특정 사용자의 좋아요 여부를 한 번에 (userId 가 null 이면 likedByMe = 0)
+    @Query("""
+            select count(l) as likeCount,
+                   coalesce(sum(case when l.userId = :userId then 1 else 0 end), 0) as likedByMe
+            from PostLike l
+            where l.category = :category and l.postId = :postId
+            """)
+    LikeSummary summarize(@Param("category") PostCategory category,
+                          @Param("postId") Long postId,
+                          @Param("userId") Long userId);
 
-    long countByCategoryAndPostId(PostCategory category, Long postId);
+    // 좋아요: 이미 있으면 아무 것도 하지 않음 (유니크 제약 충돌 없이 멱등)
+    // 반환값: 새로 추가됐으면 1, 이미 있었으면 0
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_like (category, post_id, user_id, created_at)
+            VALUES (:category, :postId, :userId, CURRENT_TIMESTAMP(6))
+            ON DUPLICATE KEY UPDATE user_id = user_id
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("category") String category,
+                       @Param("postId") Long postId,
+                       @Param("userId") Long userId);
+
+    // 좋아요 취소: 조회 없이 DELETE 한 번
+    @Modifying
+    @Query("""
+            delete from PostLike l
+            where l.category = :category and l.postId = :postId and l.userId = :userId
+            """)
+    int deleteByCategoryAndPostIdAndUserId(@Param("category") PostCategory category,
+                                           @Param("postId") Long postId,
+                                           @Param("userId") Long userId);
+
+    // 게시판 이동 시 좋아요 전체를 UPDATE 한 번으로 이동
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update PostLike l
+            set l.category = :toCategory, l.postId = :toPostId
+            where l.category = :fromCategory and l.postId = :fromPostId
+            """)
+    int moveAll(@Param("fromCategory") PostCategory fromCategory,
+                @Param("fromPostId") Long fromPostId,
+                @Param("toCategory") PostCategory toCategory,
+                @Param("toPostId") Long toPostId);
+
+    // 여러 게시글의 좋아요 수를 GROUP BY 한 번으로 조회
+    @Query("""
+            select l.postId as postId, count(l) as count
+            from PostLike l
+            where l.category = :category and l.postId in :postIds
+            group by l.postId
+            """)
+    List<PostLikeCount> countGroupByPostId(@Param("category") PostCategory category,
+                                           @Param("postIds") Collection<Long> postIds);
+
+    // 내가 누른 좋아요: (createdAt, id) 보다 오래된 것부터 - idx_post_like_user_created
+    @Query("""
+            select l.id as id, l.category as category, l.postId as postId, l.createdAt as createdAt
+            from PostLike l
+            where l.userId = :userId
+              and (l.createdAt < :createdAt or (l.createdAt = :createdAt and l.id < :id))
+            order by l.createdAt desc, l.id desc
+            """)
+    List<UserLikeRow> findUserLikesBefore(@Param("userId") Long userId,
+                                          @Param("createdAt") Instant createdAt,
+                                          @Param("id") Long id,
+                                          Limit limit);
+
+    interface LikeSummary {
+        long getLikeCount();
+        long getLikedByMe();
+    }
+
+    interface PostLikeCount {
+        Long getPostId();
+        long getCount();
+    }
 
-    List<PostLike> findByCategoryAndPostId(PostCategory category, Long postId);
-}
\ No newline at end of file
+    interface UserLikeRow {
+        Long getId();
+        PostCategory getCategory();
+        Long getPostId();
+        Instant getCreatedAt();
+    }
+}
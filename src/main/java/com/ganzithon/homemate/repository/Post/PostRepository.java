@@ -0,0 +1,119 @@
+package com.ganzithon.homemate.repository.Post;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.entity.Post.Post;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
+
+    Optional<Post> findByIdAndCategory(Long id, PostCategory category);
+
+    // 조회수 +1 (읽고-쓰기 대신 DB 에서 원자적으로)
+    @Modifying
+    @Query("update Post p set p.viewCount = p.viewCount + 1 where p.id = :id")
+    int increaseViewCount(@Param("id") Long id);
+
+    // 메인 페이지용: 게시판별 최신 글 N개를 한 번에 (COUNT 쿼리 없음)
+    // 각 SELECT 는 (category, created_at) 인덱스를 타고 LIMIT 만큼만 읽음
+    @Query(value = """
+            (SELECT * FROM post WHERE category = 'ROOMMATE' ORDER BY created_at DESC LIMIT :size)
+            UNION ALL
+            (SELECT * FROM post WHERE category = 'FREE' ORDER BY created_at DESC LIMIT :size)
+            UNION ALL
+            (SELECT * FROM post WHERE category = 'POLICY' ORDER BY created_at DESC LIMIT :size)
+            """, nativeQuery = true)
+    List<Post> findLatestOfEachCategory(@Param("size") int size);
+
+    // 내가 쓴 글: (createdAt, id) 보다 오래된 것부터 - idx_post_user_created
+    @Query("""
+            select p.id as id, p.category as category, p.title as title, p.createdAt as createdAt
+            from Post p
+            where p.userId = :userId
+              and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc
+            """)
+    List<UserPostRow> findUserPostsBefore(@Param("userId") Long userId,
+                                          @Param("createdAt") Instant createdAt,
+                                          @Param("id") Long id,
+                                          Limit limit);
+
+    // 인기글 순위 초기화용 (since 이후 작성된 글) - idx_post_category_created
+    @Query("""
+            select p.id as id, p.category as category, p.sidoCode as sidoCode,
+                   p.viewCount as viewCount, p.createdAt as createdAt
+            from Post p
+            where p.category = :category and p.createdAt >= :since
+            """)
+    List<RankingRow> findRankingRowsSince(@Param("category") PostCategory category,
+                                          @Param("since") Instant since);
+
+    @Query("""
+            select p.id as id, p.category as category, p.sidoCode as sidoCode,
+                   p.viewCount as viewCount, p.createdAt as createdAt
+            from Post p
+            where p.id = :id
+            """)
+    Optional<RankingRow> findRankingRowById(@Param("id") Long id);
+
+    // 룸메이트 매칭 인덱스 적재용 (since 이후 작성된 글) - idx_post_category_created
+    @Query("""
+            select p.id as id, p.userId as userId, p.category as category,
+                   p.sidoCode as sidoCode, p.sigunguCode as sigunguCode, p.createdAt as createdAt
+            from Post p
+            where p.category = :category and p.createdAt >= :since
+            """)
+    List<MatchingRow> findMatchingRowsSince(@Param("category") PostCategory category,
+                                            @Param("since") Instant since);
+
+    @Query("""
+            select p.id as id, p.userId as userId, p.category as category,
+                   p.sidoCode as sidoCode, p.sigunguCode as sigunguCode, p.createdAt as createdAt
+            from Post p
+            where p.id = :id
+            """)
+    Optional<MatchingRow> findMatchingRowById(@Param("id") Long id);
+
+    // 게시글 제목만 (본문 LOB 은 읽지 않음)
+    @Query("select p.id as id, p.title as title from Post p where p.id in :ids")
+    List<PostTitle> findTitlesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface UserPostRow {
+        Long getId();
+        PostCategory getCategory();
+        String getTitle();
+        Instant getCreatedAt();
+    }
+
+    interface RankingRow {
+        Long getId();
+        PostCategory getCategory();
+        String getSidoCode();
+        Long getViewCount();
+        Instant getCreatedAt();
+    }
+
+    interface MatchingRow {
+        Long getId();
+        Long getUserId();
+        PostCategory getCategory();
+        String getSidoCode();
+        String getSigunguCode();
+        Instant getCreatedAt();
+    }
+
+    interface PostTitle {
+        Long getId();
+        String getTitle();
+    }
+}
@@ -0,0 +1,94 @@
+package com.ganzithon.homemate.repository.Post;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PostSearchCondition;
+import com.ganzithon.homemate.dto.Post.SearchType;
+import com.ganzithon.homemate.entity.Post.Post;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+// ========================================
+// 게시판 목록 동적 조건
+// - 항상 category = ? 로 시작 → idx_post_category_created / idx_post_region_created 사용
+// - 값이 없는 조건은 빠짐 (null Specification)
+// ========================================
+public final class PostSpecifications {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private PostSpecifications() {
+    }
+
+    public static Specification<Post> matching(PostSearchCondition cond) {
+        SearchType searchType = (cond.searchType() != null) ? cond.searchType() : SearchType.TITLE;
+
+        return Specification.allOf(
+                inCategory(cond.category()),
+                keyword(searchType, cond.keyword()),
+                inSido(cond.sidoCode()),
+                inSigungu(cond.sigunguCode()),
+                createdFrom(cond.from()),
+                createdUntil(cond.to())
+        );
+    }
+
+    public static Specification<Post> inCategory(PostCategory category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<Post> keyword(SearchType searchType, String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(keyword.trim()) + "%";
+        return switch (searchType) {
+            case TITLE -> (root, query, cb) ->
+                    cb.like(cb.lower(root.get("title")), pattern.toLowerCase(), '\\');
+            case CONTENT -> (root, query, cb) ->
+                    cb.like(root.get("content"), pattern, '\\');
+        };
+    }
+
+    public static Specification<Post> inSido(String sidoCode) {
+        if (!StringUtils.hasText(sidoCode)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("sidoCode"), sidoCode);
+    }
+
+    public static Specification<Post> inSigungu(String sigunguCode) {
+        if (!StringUtils.hasText(sigunguCode)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("sigunguCode"), sigunguCode);
+    }
+
+    // from 날짜 00:00 부터
+    public static Specification<Post> createdFrom(LocalDate from) {
+        if (from == null) {
+            return null;
+        }
+        Instant start = from.atStartOfDay(KST).toInstant();
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), start);
+    }
+
+    // to 날짜 다음날 00:00 전까지
+    public static Specification<Post> createdUntil(LocalDate to) {
+        if (to == null) {
+            return null;
+        }
+        Instant end = to.plusDays(1).atStartOfDay(KST).toInstant();
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), end);
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,35 @@
+package com.ganzithon.homemate.repository;
+
+import com.ganzithon.homemate.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 한 번만 성공 (동시에 같은 토큰으로 회전하면 하나만 1, 나머지는 0 → 재사용으로 처리)
+    @Modifying
+    @Query("update RefreshToken t set t.usedAt = :now where t.id = :id and t.usedAt is null and t.revokedAt is null")
+    int markUsed(@Param("id") Long id, @Param("now") Instant now);
+
+    // family 폐기 시 아직 살아 있을 수 있는 access token id
+    @Query("select t.accessJti from RefreshToken t where t.familyId = :familyId and t.createdAt > :issuedAfter")
+    List<String> findAccessJtis(@Param("familyId") String familyId, @Param("issuedAfter") Instant issuedAfter);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,22 @@
+package com.ganzithon.homemate.repository;
+
+import com.ganzithon.homemate.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+    @Query("select r from RevokedAccessToken r where r.expiresAt > :now")
+    List<RevokedAccessToken> findUnexpired(@Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedAccessToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
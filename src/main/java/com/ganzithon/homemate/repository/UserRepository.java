@@ -1,10 +1,13 @@
 package com.ganzithon.homemate.repository;
 
 import com.ganzithon.homemate.entity.User;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.List;
 import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -12,6 +15,46 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByAccountLoginIdValue(String loginId);
 
-    List<User> findByIdIn(Collection<Long> ids);
-}
+    // 작성자 요약용 (프로필 소개 등은 읽지 않음)
+    @Query("""
+            select u.id as id, u.account.loginIdValue as loginId, u.profileImagePath as profileImagePath
+            from User u
+            where u.id in :ids
+            """)
+    List<SummaryRow> findSummariesByIdIn(@Param("ids") Collection<? extends Long> ids);
+
+    // 인증 principal 캐시 적재용
+    @Query("select u.account.loginIdValue from User u where u.id = :id")
+    Optional<String> findLoginIdById(@Param("id") Long id);
+
+    // 프로필 이미지 서빙용 (User 전체를 읽지 않음)
+    @Query("select u.profileImagePath from User u where u.id = :id")
+    Optional<String> findProfileImagePathById(@Param("id") Long id);
+
+    // 룸메이트 매칭 인덱스 적재용 (희망 지역이나 입주일을 적은 사용자만)
+    @Query("""
+            select u.id as id, u.desiredArea as desiredArea, u.desiredMoveInDate as desiredMoveInDate
+            from User u
+            where u.desiredArea is not null or u.desiredMoveInDate is not null
+            """)
+    List<MatchingRow> findMatchingRows();
 
+    @Query("""
+            select u.id as id, u.desiredArea as desiredArea, u.desiredMoveInDate as desiredMoveInDate
+            from User u
+            where u.id = :id
+            """)
+    Optional<MatchingRow> findMatchingRowById(@Param("id") Long id);
+
+    interface SummaryRow {
+        Long getId();
+        String getLoginId();
+        String getProfileImagePath();
+    }
+
+    interface MatchingRow {
+        Long getId();
+        String getDesiredArea();
+        LocalDate getDesiredMoveInDate();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ganzithon.homemate.security;
+
+import com.ganzithon.homemate.entity.RevokedAccessToken;
+import com.ganzithon.homemate.repository.RevokedAccessTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// ========================================
+// 폐기된 access token(jti) 목록 (메모리)
+// - 인증 필터는 메모리만 확인 (요청마다 DB 조회 없음)
+// - 이 서버에서 폐기한 jti 는 즉시 반영, 다른 서버에서 폐기한 jti 는 주기 동기화로 반영
+// - 토큰 만료 시각이 지나면 메모리/DB 에서 제거 (access token 이 짧으므로 목록도 작게 유지)
+// ========================================
+@Slf4j
+@Component
+public class AccessTokenDenylist {
+
+    private final RevokedAccessTokenRepository repository;
+
+    // jti → 만료 시각
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    public AccessTokenDenylist(RevokedAccessTokenRepository repository) {
+        this.repository = repository;
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null && revoked.containsKey(jti);
+    }
+
+    // 호출한 트랜잭션에서 row 저장 + 메모리에는 바로 추가
+    // (롤백되어도 메모리에 남는 쪽은 더 엄격할 뿐이라 안전)
+    public void revokeAll(Collection<String> jtis, Instant expiresAt) {
+        if (jtis.isEmpty()) {
+            return;
+        }
+        repository.saveAll(jtis.stream()
+                .map(jti -> RevokedAccessToken.of(jti, expiresAt))
+                .toList());
+        jtis.forEach(jti -> revoked.put(jti, expiresAt));
+    }
+
+    @Scheduled(fixedDelayString = "${homemate.auth.denylist-sync-ms:10000}")
+    public void sync() {
+        Instant now = Instant.now();
+        try {
+            repository.deleteExpired(now);
+            repository.findUnexpired(now)
+                    .forEach(r -> revoked.put(r.getJti(), r.getExpiresAt()));
+        } catch (RuntimeException e) {
+            // DB 장애 시 기존 목록으로 계속 동작
+            log.warn("access token 폐기 목록 동기화 실패: {}", e.getMessage());
+        }
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+}
@@ -0,0 +1,119 @@
+package com.ganzithon.homemate.security;
+
+import com.ganzithon.homemate.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// ========================================
+// BCrypt 같은 느린 해시를 전용 스레드 풀에서만 실행
+// - 요청 스레드는 결과만 기다림 → 로그인이 몰려도 CPU 는 workers 개까지만 사용
+// - 큐가 가득 차거나 timeout 을 넘기면 바로 429 (다른 API 지연에 영향 없음)
+// - 지표: homemate.auth.password.hash (해시 시간), .pool.active / .pool.queued, .rejected
+// ========================================
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String BUSY = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor pool;
+    private final long timeoutMillis;
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int workers,
+            int queueCapacity,
+            long timeoutMillis,
+            MeterRegistry registry
+    ) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.hashTimer = Timer.builder("homemate.auth.password.hash")
+                .description("비밀번호 해시/검증 시간")
+                .register(registry);
+        this.rejected = Counter.builder("homemate.auth.password.rejected")
+                .description("풀 포화/대기 시간 초과로 거절된 요청")
+                .register(registry);
+        Gauge.builder("homemate.auth.password.pool.active", pool, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        Gauge.builder("homemate.auth.password.pool.queued", pool, p -> p.getQueue().size())
+                .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> hash) {
+        Future<T> future;
+        try {
+            future = pool.submit(() -> hashTimer.recordCallable(hash));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException(BUSY, 1);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new TooManyRequestsException(BUSY, 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
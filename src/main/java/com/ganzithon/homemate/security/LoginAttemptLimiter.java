@@ -0,0 +1,131 @@
+package com.ganzithon.homemate.security;
+
+import com.ganzithon.homemate.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+
+// ========================================
+// 로그인 시도 제한 (메모리 sliding window)
+// - IP: 성공/실패 상관없이 모든 시도 (한 곳에서 오는 대량 시도 차단)
+//   · 프록시 뒤에서는 server.forward-headers-strategy 로 복원한 클라이언트 IP 기준
+//   · ip-attempts <= 0 이면 끔 (클라이언트 IP 를 알 수 없는 환경)
+// - 아이디: 실패만 (여러 IP 로 나눠 오는 비밀번호 대입 차단), 로그인 성공 시 초기화
+// - 초과 시 BCrypt 를 돌리기 전에 429
+// ========================================
+@Component
+public class LoginAttemptLimiter {
+
+    private static final String LIMITED = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final Clock clock;
+    private final int ipLimit;
+    private final int accountLimit;
+    private final Cache<String, SlidingWindow> ipWindows;
+    private final Cache<String, SlidingWindow> accountWindows;
+    private final Duration ipWindow;
+    private final Duration accountWindow;
+
+    @Autowired
+    public LoginAttemptLimiter(
+            @Value("${homemate.auth.login-limit.ip-attempts:20}") int ipLimit,
+            @Value("${homemate.auth.login-limit.ip-window-seconds:60}") long ipWindowSeconds,
+            @Value("${homemate.auth.login-limit.account-failures:5}") int accountLimit,
+            @Value("${homemate.auth.login-limit.account-window-seconds:300}") long accountWindowSeconds
+    ) {
+        this(Clock.systemUTC(), ipLimit, Duration.ofSeconds(ipWindowSeconds),
+                accountLimit, Duration.ofSeconds(accountWindowSeconds));
+    }
+
+    LoginAttemptLimiter(Clock clock, int ipLimit, Duration ipWindow, int accountLimit, Duration accountWindow) {
+        this.clock = clock;
+        this.ipLimit = ipLimit;
+        this.ipWindow = ipWindow;
+        this.accountLimit = accountLimit;
+        this.accountWindow = accountWindow;
+        this.ipWindows = newWindows(ipWindow);
+        this.accountWindows = newWindows(accountWindow);
+    }
+
+    // 로그인 시도 전에 호출 (IP 시도 1회 기록)
+    public void acquire(String loginId, String ip) {
+        long now = clock.millis();
+
+        SlidingWindow account = accountWindows.getIfPresent(loginId);
+        if (account != null) {
+            long retryAfter = account.retryAfterMillis(now, accountLimit, accountWindow.toMillis());
+            if (retryAfter > 0) {
+                throw limited(retryAfter);
+            }
+        }
+
+        if (ipLimit <= 0) {
+            return;
+        }
+        SlidingWindow byIp = ipWindows.get(ip, key -> new SlidingWindow());
+        long retryAfter = byIp.tryRecord(now, ipLimit, ipWindow.toMillis());
+        if (retryAfter > 0) {
+            throw limited(retryAfter);
+        }
+    }
+
+    public void recordFailure(String loginId) {
+        accountWindows.get(loginId, key -> new SlidingWindow())
+                .record(clock.millis(), accountWindow.toMillis());
+    }
+
+    public void reset(String loginId) {
+        accountWindows.invalidate(loginId);
+    }
+
+    private static TooManyRequestsException limited(long retryAfterMillis) {
+        return new TooManyRequestsException(LIMITED, Math.max(1, (retryAfterMillis + 999) / 1000));
+    }
+
+    private static Cache<String, SlidingWindow> newWindows(Duration window) {
+        return Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(window)
+                .build();
+    }
+
+    // 창 안의 시도 시각 목록 (limit 개까지만 보관)
+    static final class SlidingWindow {
+
+        private final ArrayDeque<Long> timestamps = new ArrayDeque<>();
+
+        // 0 이면 기록 성공, 아니면 다시 시도 가능할 때까지 남은 ms
+        synchronized long tryRecord(long now, int limit, long windowMillis) {
+            long retryAfter = retryAfterMillis(now, limit, windowMillis);
+            if (retryAfter == 0) {
+                timestamps.addLast(now);
+            }
+            return retryAfter;
+        }
+
+        synchronized void record(long now, long windowMillis) {
+            evict(now, windowMillis);
+            timestamps.addLast(now);
+        }
+
+        synchronized long retryAfterMillis(long now, int limit, long windowMillis) {
+            evict(now, windowMillis);
+            if (timestamps.size() < limit) {
+                return 0;
+            }
+            return timestamps.peekFirst() + windowMillis - now;
+        }
+
+        private void evict(long now, long windowMillis) {
+            while (!timestamps.isEmpty() && timestamps.peekFirst() <= now - windowMillis) {
+                timestamps.pollFirst();
+            }
+        }
+    }
+}
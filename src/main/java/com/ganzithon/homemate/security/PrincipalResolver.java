@@ -0,0 +1,67 @@
+package com.ganzithon.homemate.security;
+
+import com.ganzithon.homemate.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// ========================================
+// 검증된 access token → UserPrincipal
+// - principal-source=claims (기본): sub + loginId 클레임으로 바로 생성 (DB 조회 없음)
+// - loginId 클레임이 없는 토큰이거나 principal-source=cache 이면
+//   userId → principal 캐시 (크기/TTL 제한), 없을 때만 loginId 한 컬럼 조회
+// - 아이디/비밀번호 변경·탈퇴 기능이 아직 없어 무효화는 TTL 만료로만
+//   (loginId 가 바뀌거나 계정이 지워져도 TTL 동안은 이전 principal 사용)
+// ========================================
+@Component
+public class PrincipalResolver implements MeterBinder {
+
+    static final String LOGIN_ID_CLAIM = "loginId";
+
+    private final UserRepository userRepository;
+    private final boolean trustClaims;
+    private final Cache<Long, UserPrincipal> cache;
+
+    public PrincipalResolver(
+            UserRepository userRepository,
+            @Value("${homemate.auth.principal-source:claims}") String principalSource,
+            @Value("${homemate.auth.principal-cache.max-size:10000}") long maxSize,
+            @Value("${homemate.auth.principal-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.trustClaims = !"cache".equalsIgnoreCase(principalSource);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "auth.principal");
+    }
+
+    public Optional<UserPrincipal> resolve(Claims claims) {
+        Long userId = Long.valueOf(claims.getSubject());
+
+        String loginId = claims.get(LOGIN_ID_CLAIM, String.class);
+        if (trustClaims && StringUtils.hasText(loginId)) {
+            return Optional.of(UserPrincipal.create(userId, loginId, null));
+        }
+
+        // 없는 사용자는 캐시하지 않음 (null 반환 시 Caffeine 이 저장하지 않음)
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findLoginIdById(id)
+                .map(value -> UserPrincipal.create(id, value, null))
+                .orElse(null)));
+    }
+}
@@ -0,0 +1,150 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.CursorResponse;
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Profile.ActivityCursor;
+import com.ganzithon.homemate.dto.Profile.ActivityItemResponse;
+import com.ganzithon.homemate.dto.Profile.ActivityType;
+import com.ganzithon.homemate.repository.CommentRepository;
+import com.ganzithon.homemate.repository.Post.PostLikeRepository;
+import com.ganzithon.homemate.repository.Post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// ========================================
+// 내 활동 (내가 쓴 글 / 댓글 / 좋아요)
+// - 종류별로 user_id 인덱스를 타는 커서 쿼리 (각각 최대 size + 1 건)
+// - 최신순 k-way 병합 → 한 페이지당 메모리는 종류 수 × size 로 고정
+// ========================================
+@Service
+@RequiredArgsConstructor
+public class ActivityService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // (createdAt, type, id) 내림차순
+    private static final Comparator<Row> NEWEST_FIRST = Comparator
+            .comparing(Row::createdAt)
+            .thenComparing(Row::type)
+            .thenComparing(Row::id)
+            .reversed();
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+
+    // type == null 이면 전체
+    @Transactional(readOnly = true)
+    public CursorResponse<ActivityItemResponse> getActivities(Long userId, ActivityType type, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        ActivityCursor after = ActivityCursor.decode(cursor);
+
+        List<ActivityType> types = (type != null) ? List.of(type) : List.of(ActivityType.values());
+
+        // 종류별 스트림의 맨 앞 항목만 큐에 유지
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::row, NEWEST_FIRST));
+        for (ActivityType t : types) {
+            Iterator<Row> rows = fetch(t, userId, after, pageSize + 1).iterator();
+            if (rows.hasNext()) {
+                heads.add(new Head(rows.next(), rows));
+            }
+        }
+
+        List<Row> merged = new ArrayList<>(pageSize + 1);
+        while (merged.size() <= pageSize && !heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.row());
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+
+        Map<Long, String> titles = findTitles(merged);
+
+        return CursorResponse.of(
+                merged,
+                pageSize,
+                r -> r.toResponse(r.title() != null ? r.title() : titles.get(r.postId())),
+                r -> new ActivityCursor(r.createdAt(), r.type(), r.id()).encode()
+        );
+    }
+
+    // 종류별 커서 쿼리
+    // - 커서와 createdAt 이 같을 때는 type 순서로 포함 여부가 갈리므로 id 경계를 조정
+    private List<Row> fetch(ActivityType type, Long userId, ActivityCursor after, int limit) {
+        Instant createdAt = after.createdAt();
+        long idBound = idBound(type, after);
+        Limit max = Limit.of(limit);
+
+        return switch (type) {
+            case POST -> postRepository.findUserPostsBefore(userId, createdAt, idBound, max).stream()
+                    .map(p -> new Row(ActivityType.POST, p.getId(), p.getCategory(), p.getId(),
+                            p.getTitle(), null, p.getCreatedAt()))
+                    .toList();
+            case COMMENT -> commentRepository.findUserCommentsBefore(userId, createdAt, idBound, max).stream()
+                    .map(c -> new Row(ActivityType.COMMENT, c.getId(), c.getCategory(), c.getPostId(),
+                            null, c.getContent(), c.getCreatedAt()))
+                    .toList();
+            case LIKE -> postLikeRepository.findUserLikesBefore(userId, createdAt, idBound, max).stream()
+                    .map(l -> new Row(ActivityType.LIKE, l.getId(), l.getCategory(), l.getPostId(),
+                            null, null, l.getCreatedAt()))
+                    .toList();
+        };
+    }
+
+    private static long idBound(ActivityType type, ActivityCursor after) {
+        int cmp = type.compareTo(after.type());
+        if (cmp < 0) {
+            return Long.MAX_VALUE; // 같은 시각이면 모두 커서 뒤
+        }
+        if (cmp > 0) {
+            return 0L;             // 같은 시각이면 모두 이미 받은 항목
+        }
+        return after.id();
+    }
+
+    // 댓글/좋아요가 가리키는 게시글 제목을 한 번에 조회
+    private Map<Long, String> findTitles(List<Row> rows) {
+        Set<Long> postIds = rows.stream()
+                .filter(r -> r.title() == null)
+                .map(Row::postId)
+                .collect(Collectors.toSet());
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return postRepository.findTitlesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostRepository.PostTitle::getId, PostRepository.PostTitle::getTitle));
+    }
+
+    private record Row(
+            ActivityType type,
+            Long id,
+            PostCategory category,
+            Long postId,
+            String title,
+            String content,
+            Instant createdAt
+    ) {
+        ActivityItemResponse toResponse(String postTitle) {
+            return new ActivityItemResponse(type, id, category, postId, postTitle, content, createdAt);
+        }
+    }
+
+    private record Head(Row row, Iterator<Row> rest) {
+    }
+}
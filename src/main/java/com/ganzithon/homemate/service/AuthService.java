@@ -5,12 +5,12 @@ import com.ganzithon.homemate.dto.Login.LoginResponse;
 import com.ganzithon.homemate.dto.Login.RegisterRequest;
 import com.ganzithon.homemate.entity.User;
 import com.ganzithon.homemate.entity.UserAccount;
-import com.ganzithon.homemate.jwt.JwtTokenProvider;
 import com.ganzithon.homemate.repository.UserRepository;
+import com.ganzithon.homemate.security.LoginAttemptLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -18,23 +18,51 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
-    @Transactional
+    private static final String DUPLICATE_LOGIN_ID = "이미 사용 중인 아이디입니다.";
+
+    // 트랜잭션 없이 진행 → BCrypt 해시(전용 풀 대기 포함) 동안 DB 커넥션을 잡지 않음
+    // - 중복 확인과 저장 사이에 같은 아이디가 먼저 가입되면 login_id unique 제약으로 거절
     public void register(RegisterRequest request) {
         if (userRepository.existsByAccountLoginIdValue(request.id())) {
-            throw new IllegalArgumentException("이미 사용 중인 아이디입니다.");
+            throw new IllegalArgumentException(DUPLICATE_LOGIN_ID);
         }
         UserAccount account = UserAccount.create(request.id(), passwordEncoder.encode(request.password()));
-        userRepository.save(User.register(account));
+        try {
+            userRepository.save(User.register(account));
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(DUPLICATE_LOGIN_ID);
+        }
+    }
+
+    // 트랜잭션 없이 진행 → BCrypt 검증(전용 풀) 동안 DB 커넥션을 잡지 않음
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        loginAttemptLimiter.acquire(request.id(), clientIp);
+
+        User user = userRepository.findByAccountLoginIdValue(request.id()).orElse(null);
+        try {
+            if (user == null) {
+                throw new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다.");
+            }
+            user.verifyPassword(passwordEncoder, request.password());
+        } catch (IllegalArgumentException e) {
+            loginAttemptLimiter.recordFailure(request.id());
+            throw e;
+        }
+
+        loginAttemptLimiter.reset(request.id());
+        return refreshTokenService.issue(user);
+    }
+
+    // 비밀번호 검증 없이 refresh token 으로 재발급 (이전 refresh token 은 사용 처리)
+    public LoginResponse refresh(String refreshToken) {
+        return refreshTokenService.rotate(refreshToken);
     }
 
-    @Transactional
-    public LoginResponse login(LoginRequest request) {
-        User user = userRepository.findByAccountLoginIdValue(request.id())
-                .orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다."));
-        user.verifyPassword(passwordEncoder, request.password());
-        return user.issueAccessToken(jwtTokenProvider);
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
     }
 }
 
@@ -1,17 +1,22 @@
 package com.ganzithon.homemate.service;
 
+import com.ganzithon.homemate.dto.Comment.CommentCursor;
 import com.ganzithon.homemate.dto.Comment.CommentResponse;
 import com.ganzithon.homemate.dto.Comment.CreateCommentRequest;
+import com.ganzithon.homemate.dto.CursorResponse;
 import com.ganzithon.homemate.dto.Post.PostCategory;
 import com.ganzithon.homemate.dto.Comment.UpdateCommentRequest;
+import com.ganzithon.homemate.dto.UserSummary;
 import com.ganzithon.homemate.entity.Comment;
-import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.event.PostEngagementEvent;
 import com.ganzithon.homemate.repository.CommentRepository;
-import com.ganzithon.homemate.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -20,19 +25,26 @@ import java.util.stream.Collectors;
 @Service
 public class CommentService {
 
+    // 한 번에 내려주는 댓글 수 상한
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final UserSummaryService userSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentService(CommentRepository commentRepository,
-                          UserRepository userRepository) {
+                          UserSummaryService userSummaryService,
+                          ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
-        this.userRepository = userRepository;
+        this.userSummaryService = userSummaryService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public void create(Long userId, PostCategory category, Long postId, CreateCommentRequest req) {
         Comment comment = Comment.create(category, postId, userId, req.getContent());
         commentRepository.save(comment);
+        eventPublisher.publishEvent(PostEngagementEvent.comment(category, postId, 1));
     }
 
     @Transactional
@@ -57,43 +69,65 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(PostEngagementEvent.comment(comment.getCategory(), comment.getPostId(), -1));
     }
 
+    // 댓글 커서 페이지 조회 (오래된 순)
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(PostCategory category, Long postId) {
-        List<Comment> comments = commentRepository
-                .findByCategoryAndPostIdOrderByCreatedAtAsc(category, postId);
+    public CursorResponse<CommentResponse> getComments(PostCategory category, Long postId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        List<Comment> rows = findPage(category, postId, CommentCursor.decode(cursor), pageSize);
 
         // 작성자 ID 모아서 한 번에 조회
-        Set<Long> userIds = comments.stream()
+        Set<Long> userIds = rows.stream()
                 .map(Comment::getUserId)
                 .collect(Collectors.toSet());
 
-        Map<Long, User> userMap = userRepository.findByIdIn(userIds).stream()
-                .collect(Collectors.toMap(User::getId, u -> u));
+        Map<Long, UserSummary> userMap = userSummaryService.getAll(userIds);
 
-        return comments.stream()
-                .map(c -> {
-                    User writer = userMap.get(c.getUserId());
-                    return CommentResponse.from(c, writer);
-                })
-                .toList();
+        return CursorResponse.of(
+                rows,
+                pageSize,
+                c -> CommentResponse.from(c, userMap.get(c.getUserId())),
+                c -> CommentCursor.of(c).encode()
+        );
     }
 
-    public long getCommentCount(PostCategory category, Long postId) {
-        return commentRepository.countByCategoryAndPostId(category, postId);
+    // pageSize + 1 개까지 조회 (다음 페이지 존재 여부 판단용)
+    List<Comment> findPage(PostCategory category, Long postId, CommentCursor cursor, int pageSize) {
+        Limit limit = Limit.of(pageSize + 1);
+        if (cursor == null) {
+            return commentRepository.findByCategoryAndPostIdOrderByCreatedAtAscIdAsc(category, postId, limit);
+        }
+        return commentRepository.findPageAfter(category, postId, cursor.createdAt(), cursor.id(), limit);
     }
 
-    // 게시판 이동 시 댓글 모두 이동
-    @Transactional
-    public void moveAll(PostCategory fromCategory,
-                        Long fromPostId,
-                        PostCategory toCategory,
-                        Long toPostId) {
-
-        var comments = commentRepository.findByCategoryAndPostId(fromCategory, fromPostId);
-        for (Comment comment : comments) {
-            comment.moveTo(toCategory, toPostId);
+    private int clampPageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // postId -> 댓글 수 (댓글이 없는 게시글은 맵에 없음)
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getCommentCounts(PostCategory category, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
         }
+        return commentRepository.countGroupByPostId(category, postIds).stream()
+                .collect(Collectors.toMap(
+                        CommentRepository.PostCommentCount::getPostId,
+                        CommentRepository.PostCommentCount::getCount
+                ));
+    }
+
+    // 게시판 이동 시 댓글 모두 이동 (엔티티 로딩 없이 UPDATE 한 번)
+    @Transactional
+    public int moveAll(PostCategory fromCategory,
+                       Long fromPostId,
+                       PostCategory toCategory,
+                       Long toPostId) {
+        return commentRepository.moveAll(fromCategory, fromPostId, toCategory, toPostId);
     }
 }
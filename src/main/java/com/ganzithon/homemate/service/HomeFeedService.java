@@ -0,0 +1,127 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.Post.HomePostsResponse;
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PostListItemResponse;
+import com.ganzithon.homemate.dto.UserSummary;
+import com.ganzithon.homemate.entity.Post.Post;
+import com.ganzithon.homemate.event.PostChangedEvent;
+import com.ganzithon.homemate.repository.Post.PostRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// ========================================
+// 메인 페이지용 게시판별 최신 글 2개
+// - UNION ALL 쿼리 한 번으로 세 게시판 조회, COUNT 쿼리 없음
+// - 이미지는 배치 로딩, 작성자는 한 번에, 댓글 수는 게시판별 GROUP BY 한 번
+// - 조립된 응답은 짧은 TTL 동안 메모리에서 응답
+// - 글 작성/수정/삭제/이동 커밋 시 즉시 무효화
+// ========================================
+@Service
+public class HomeFeedService implements MeterBinder {
+
+    private static final String CACHE_KEY = "home";
+    private static final int POSTS_PER_CATEGORY = 2;
+
+    private final PostRepository postRepository;
+    private final UserSummaryService userSummaryService;
+    private final CommentService commentService;
+    private final TransactionTemplate readOnlyTx;
+
+    private final Cache<String, HomePostsResponse> cache;
+
+    public HomeFeedService(
+            PostRepository postRepository,
+            UserSummaryService userSummaryService,
+            CommentService commentService,
+            PlatformTransactionManager transactionManager,
+            @Value("${homemate.home-feed.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.postRepository = postRepository;
+        this.userSummaryService = userSummaryService;
+        this.commentService = commentService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(1)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "home-feed");
+    }
+
+    public HomePostsResponse getHomePosts() {
+        // 동시에 여러 요청이 와도 로딩은 한 번만 수행됨
+        return cache.get(CACHE_KEY, key -> readOnlyTx.execute(status -> load()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private HomePostsResponse load() {
+        List<Post> posts = postRepository.findLatestOfEachCategory(POSTS_PER_CATEGORY);
+
+        // 작성자 ID 모아서 한 번에 조회
+        Set<Long> userIds = posts.stream()
+                .map(Post::getUserId)
+                .collect(Collectors.toSet());
+
+        Map<Long, UserSummary> userMap = userSummaryService.getAll(userIds);
+
+        Map<PostCategory, List<Post>> byCategory = posts.stream()
+                .collect(Collectors.groupingBy(
+                        Post::getCategory,
+                        () -> new EnumMap<>(PostCategory.class),
+                        Collectors.toList()
+                ));
+
+        return new HomePostsResponse(
+                toItems(PostCategory.ROOMMATE, byCategory, userMap),
+                toItems(PostCategory.FREE, byCategory, userMap),
+                toItems(PostCategory.POLICY, byCategory, userMap)
+        );
+    }
+
+    private List<PostListItemResponse> toItems(
+            PostCategory category,
+            Map<PostCategory, List<Post>> byCategory,
+            Map<Long, UserSummary> userMap
+    ) {
+        List<Post> posts = byCategory.getOrDefault(category, List.of());
+        Map<Long, Long> commentCounts = commentService.getCommentCounts(
+                category,
+                posts.stream().map(Post::getId).toList()
+        );
+
+        return posts.stream()
+                .sorted(Comparator.comparing(Post::getCreatedAt).reversed())
+                .map(post -> {
+                    PostListItemResponse dto = PostListItemResponse.from(post, userMap.get(post.getUserId()));
+                    dto.setCommentCount(commentCounts.getOrDefault(post.getId(), 0L));
+                    return dto;
+                })
+                .toList();
+    }
+}
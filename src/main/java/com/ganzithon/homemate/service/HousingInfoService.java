@@ -4,11 +4,18 @@ import com.ganzithon.homemate.dto.HousingApiResponse;
 import com.ganzithon.homemate.dto.Recomendation.RecommendationResponse;
 import com.ganzithon.homemate.entity.HousingInfo;
 import com.ganzithon.homemate.repository.HousingInfoRepository;
+import com.ganzithon.homemate.service.region.RegionDirectory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +26,8 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -30,6 +39,8 @@ public class HousingInfoService {
     private final HousingInfoRepository housingInfoRepository;
     private final RestTemplate restTemplate;
     private final UpstageAiService upstageAiService;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
 
     @Value("${housing.api.key:}")
     private String apiKey;
@@ -134,8 +145,7 @@ public class HousingInfoService {
             HttpEntity<String> entity = new HttpEntity<>(headers);
 
             // URI 객체를 사용하여 재인코딩 방지
-            ResponseEntity<byte[]> byteResponse = restTemplate.exchange(
-                    uri, HttpMethod.GET, entity, byte[].class);
+            ResponseEntity<byte[]> byteResponse = exchangeHousingPage(uri, entity);
 
             String contentType = byteResponse.getHeaders().getContentType() != null
                     ? byteResponse.getHeaders().getContentType().toString()
@@ -162,6 +172,7 @@ public class HousingInfoService {
             
             if (contentType.contains("text/html") && isActualHtml) {
                 // 실제 HTML 응답인 경우
+                recordHousingResult("html");
                 String errorPreview = responseBody.substring(0, Math.min(1000, responseBody.length()));
                 log.error("API가 HTML을 반환했습니다. 응답 내용 (처음 1000자):\n{}", errorPreview);
                 throw new RuntimeException(String.format(
@@ -172,6 +183,7 @@ public class HousingInfoService {
             
             // JSON 응답인지 확인 (첫 문자가 { 또는 [인지)
             if (!trimmedBody.startsWith("{") && !trimmedBody.startsWith("[")) {
+                recordHousingResult("not_json");
                 String errorPreview = responseBody.substring(0, Math.min(1000, responseBody.length()));
                 log.error("JSON 형식이 아닌 응답입니다. 응답 내용 (처음 1000자):\n{}", errorPreview);
                 throw new RuntimeException(String.format(
@@ -185,6 +197,7 @@ public class HousingInfoService {
                 com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
                 apiResponse = objectMapper.readValue(responseBody, HousingApiResponse.class);
             } catch (Exception e) {
+                recordHousingResult("parse_error");
                 String errorPreview = responseBody.substring(0, Math.min(1000, responseBody.length()));
                 log.error("JSON 파싱 실패. 원본 응답 (처음 1000자): {}", errorPreview);
                 throw new RuntimeException(String.format(
@@ -198,6 +211,7 @@ public class HousingInfoService {
             
             // 응답 구조 검증
             if (apiResponse == null) {
+                recordHousingResult("empty");
                 String responsePreview = responseBody.length() > 500 
                     ? responseBody.substring(0, 500) + "..." 
                     : responseBody;
@@ -207,6 +221,7 @@ public class HousingInfoService {
             }
             
             String resultCode = apiResponse.getCode();
+            recordHousingResult(resultCode != null ? resultCode : "none");
             
             // API 응답 코드 확인 (에러 코드 처리)
             if (resultCode != null && !resultCode.equals("00") && !resultCode.equals("000")) {
@@ -337,6 +352,48 @@ public class HousingInfoService {
             return savedCount;
     }
 
+    // 주거정보 API 한 페이지 호출 지연 (homemate.upstream.housing.page)
+    // - status: HTTP 상태 코드, 연결/타임아웃 실패는 io_error
+    private ResponseEntity<byte[]> exchangeHousingPage(java.net.URI uri, HttpEntity<String> entity) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "error";
+        try {
+            ResponseEntity<byte[]> response = restTemplate.exchange(uri, HttpMethod.GET, entity, byte[].class);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } catch (HttpStatusCodeException e) {
+            status = String.valueOf(e.getStatusCode().value());
+            throw e;
+        } catch (ResourceAccessException e) {
+            status = "io_error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("homemate.upstream.housing.page")
+                    .description("주거정보 API 페이지 호출")
+                    .tag("status", status)
+                    .register(meterRegistry));
+        }
+    }
+
+    // 응답 본문의 결과 코드 (00 정상, 22 호출 제한 초과 등) + 형식 오류
+    private void recordHousingResult(String code) {
+        meterRegistry.counter("homemate.upstream.housing.result", "code", code).increment();
+    }
+
+    // AI 추천 단계 (homemate.recommendation.stage, stage=region|query|convert|ai|total)
+    // - 단계별 span(recommendation.query 등) + 같은 이름의 타이머, 로그용 ms 도 함께 반환
+    private <T> Staged<T> stage(String stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        T value = Observation.createNotStarted("homemate.recommendation.stage", observationRegistry)
+                .contextualName("recommendation." + stage)
+                .lowCardinalityKeyValue("stage", stage)
+                .observe(work);
+        return new Staged<>(value, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private record Staged<T>(T value, long millis) {
+    }
+
 
     // 특정 지역의 모든 페이지 데이터 가져오기
     @Transactional
@@ -468,205 +525,11 @@ public class HousingInfoService {
         }
     }
 
-    // 모든 지역 코드 목록 반환
+    // 모든 지역 코드 목록 반환 (주요 시군구, RegionDirectory 참고)
     private List<RegionCode> getAllRegionCodes() {
-        List<RegionCode> regions = new ArrayList<>();
-        
-        // 서울특별시 (11) - 주요 구
-        regions.add(new RegionCode("11", "110")); // 종로구
-        regions.add(new RegionCode("11", "140")); // 중구
-        regions.add(new RegionCode("11", "170")); // 용산구
-        regions.add(new RegionCode("11", "200")); // 성동구
-        regions.add(new RegionCode("11", "215")); // 광진구
-        regions.add(new RegionCode("11", "230")); // 동대문구
-        regions.add(new RegionCode("11", "260")); // 중랑구
-        regions.add(new RegionCode("11", "290")); // 성북구
-        regions.add(new RegionCode("11", "305")); // 강북구
-        regions.add(new RegionCode("11", "320")); // 도봉구
-        regions.add(new RegionCode("11", "350")); // 노원구
-        regions.add(new RegionCode("11", "380")); // 은평구
-        regions.add(new RegionCode("11", "410")); // 서대문구
-        regions.add(new RegionCode("11", "440")); // 마포구
-        regions.add(new RegionCode("11", "470")); // 양천구
-        regions.add(new RegionCode("11", "500")); // 강서구
-        regions.add(new RegionCode("11", "530")); // 구로구
-        regions.add(new RegionCode("11", "545")); // 금천구
-        regions.add(new RegionCode("11", "560")); // 영등포구
-        regions.add(new RegionCode("11", "590")); // 동작구
-        regions.add(new RegionCode("11", "620")); // 관악구
-        regions.add(new RegionCode("11", "650")); // 서초구
-        regions.add(new RegionCode("11", "680")); // 강남구
-        regions.add(new RegionCode("11", "710")); // 송파구
-        regions.add(new RegionCode("11", "740")); // 강동구
-        
-        // 부산광역시 (26) - 주요 구
-        regions.add(new RegionCode("26", "110")); // 중구
-        regions.add(new RegionCode("26", "140")); // 서구
-        regions.add(new RegionCode("26", "170")); // 동구
-        regions.add(new RegionCode("26", "200")); // 영도구
-        regions.add(new RegionCode("26", "230")); // 부산진구
-        regions.add(new RegionCode("26", "260")); // 동래구
-        regions.add(new RegionCode("26", "290")); // 남구
-        regions.add(new RegionCode("26", "320")); // 북구
-        regions.add(new RegionCode("26", "350")); // 해운대구
-        regions.add(new RegionCode("26", "380")); // 사하구
-        regions.add(new RegionCode("26", "410")); // 금정구
-        regions.add(new RegionCode("26", "440")); // 강서구
-        regions.add(new RegionCode("26", "470")); // 연제구
-        regions.add(new RegionCode("26", "500")); // 수영구
-        regions.add(new RegionCode("26", "530")); // 사상구
-        regions.add(new RegionCode("26", "710")); // 기장군
-        
-        // 대구광역시 (27)
-        regions.add(new RegionCode("27", "110")); // 중구
-        regions.add(new RegionCode("27", "140")); // 동구
-        regions.add(new RegionCode("27", "170")); // 서구
-        regions.add(new RegionCode("27", "200")); // 남구
-        regions.add(new RegionCode("27", "230")); // 북구
-        regions.add(new RegionCode("27", "260")); // 수성구
-        regions.add(new RegionCode("27", "290")); // 달서구
-        regions.add(new RegionCode("27", "710")); // 달성군
-        
-        // 인천광역시 (28)
-        regions.add(new RegionCode("28", "110")); // 중구
-        regions.add(new RegionCode("28", "140")); // 동구
-        regions.add(new RegionCode("28", "177")); // 미추홀구
-        regions.add(new RegionCode("28", "185")); // 연수구
-        regions.add(new RegionCode("28", "200")); // 남동구
-        regions.add(new RegionCode("28", "237")); // 부평구
-        regions.add(new RegionCode("28", "245")); // 계양구
-        regions.add(new RegionCode("28", "260")); // 서구
-        regions.add(new RegionCode("28", "710")); // 강화군
-        regions.add(new RegionCode("28", "720")); // 옹진군
-        
-        // 광주광역시 (29)
-        regions.add(new RegionCode("29", "110")); // 동구
-        regions.add(new RegionCode("29", "140")); // 서구
-        regions.add(new RegionCode("29", "155")); // 남구
-        regions.add(new RegionCode("29", "170")); // 북구
-        regions.add(new RegionCode("29", "200")); // 광산구
-        
-        // 대전광역시 (30)
-        regions.add(new RegionCode("30", "110")); // 동구
-        regions.add(new RegionCode("30", "140")); // 중구
-        regions.add(new RegionCode("30", "170")); // 서구
-        regions.add(new RegionCode("30", "200")); // 유성구
-        regions.add(new RegionCode("30", "230")); // 대덕구
-        
-        // 울산광역시 (31)
-        regions.add(new RegionCode("31", "110")); // 중구
-        regions.add(new RegionCode("31", "140")); // 남구
-        regions.add(new RegionCode("31", "170")); // 동구
-        regions.add(new RegionCode("31", "200")); // 북구
-        regions.add(new RegionCode("31", "710")); // 울주군
-        
-        // 세종특별자치시 (36)
-        regions.add(new RegionCode("36", "110")); // 세종시
-        
-        // 경기도 (41) - 주요 시군
-        regions.add(new RegionCode("41", "111")); // 수원시
-        regions.add(new RegionCode("41", "113")); // 성남시
-        regions.add(new RegionCode("41", "115")); // 의정부시
-        regions.add(new RegionCode("41", "117")); // 안양시
-        regions.add(new RegionCode("41", "119")); // 부천시
-        regions.add(new RegionCode("41", "121")); // 광명시
-        regions.add(new RegionCode("41", "123")); // 평택시
-        regions.add(new RegionCode("41", "125")); // 동두천시
-        regions.add(new RegionCode("41", "127")); // 안산시
-        regions.add(new RegionCode("41", "129")); // 고양시
-        regions.add(new RegionCode("41", "131")); // 과천시
-        regions.add(new RegionCode("41", "133")); // 구리시
-        regions.add(new RegionCode("41", "135")); // 남양주시
-        regions.add(new RegionCode("41", "137")); // 오산시
-        regions.add(new RegionCode("41", "139")); // 시흥시
-        regions.add(new RegionCode("41", "141")); // 군포시
-        regions.add(new RegionCode("41", "143")); // 의왕시
-        regions.add(new RegionCode("41", "145")); // 하남시
-        regions.add(new RegionCode("41", "147")); // 용인시
-        regions.add(new RegionCode("41", "149")); // 파주시
-        regions.add(new RegionCode("41", "151")); // 이천시
-        regions.add(new RegionCode("41", "153")); // 안성시
-        regions.add(new RegionCode("41", "155")); // 김포시
-        regions.add(new RegionCode("41", "157")); // 화성시
-        regions.add(new RegionCode("41", "159")); // 광주시
-        regions.add(new RegionCode("41", "161")); // 양주시
-        regions.add(new RegionCode("41", "163")); // 포천시
-        regions.add(new RegionCode("41", "165")); // 여주시
-        
-        // 강원도 (42) - 주요 시군
-        regions.add(new RegionCode("42", "110")); // 춘천시
-        regions.add(new RegionCode("42", "130")); // 원주시
-        regions.add(new RegionCode("42", "150")); // 강릉시
-        regions.add(new RegionCode("42", "170")); // 동해시
-        regions.add(new RegionCode("42", "190")); // 태백시
-        regions.add(new RegionCode("42", "210")); // 속초시
-        regions.add(new RegionCode("42", "230")); // 삼척시
-        
-        // 충청북도 (43) - 주요 시군
-        regions.add(new RegionCode("43", "110")); // 청주시
-        regions.add(new RegionCode("43", "130")); // 충주시
-        regions.add(new RegionCode("43", "150")); // 제천시
-        regions.add(new RegionCode("43", "720")); // 보은군
-        regions.add(new RegionCode("43", "730")); // 옥천군
-        regions.add(new RegionCode("43", "740")); // 영동군
-        regions.add(new RegionCode("43", "745")); // 증평군
-        regions.add(new RegionCode("43", "750")); // 진천군
-        regions.add(new RegionCode("43", "760")); // 괴산군
-        regions.add(new RegionCode("43", "770")); // 음성군
-        regions.add(new RegionCode("43", "800")); // 단양군
-        
-        // 충청남도 (44) - 주요 시군
-        regions.add(new RegionCode("44", "130")); // 천안시
-        regions.add(new RegionCode("44", "133")); // 공주시
-        regions.add(new RegionCode("44", "150")); // 보령시
-        regions.add(new RegionCode("44", "180")); // 아산시
-        regions.add(new RegionCode("44", "200")); // 서산시
-        regions.add(new RegionCode("44", "210")); // 논산시
-        regions.add(new RegionCode("44", "230")); // 계룡시
-        regions.add(new RegionCode("44", "250")); // 당진시
-        
-        // 전라북도 (45) - 주요 시군
-        regions.add(new RegionCode("45", "110")); // 전주시
-        regions.add(new RegionCode("45", "130")); // 군산시
-        regions.add(new RegionCode("45", "140")); // 익산시
-        regions.add(new RegionCode("45", "180")); // 정읍시
-        regions.add(new RegionCode("45", "190")); // 남원시
-        regions.add(new RegionCode("45", "210")); // 김제시
-        
-        // 전라남도 (46) - 주요 시군
-        regions.add(new RegionCode("46", "110")); // 목포시
-        regions.add(new RegionCode("46", "130")); // 여수시
-        regions.add(new RegionCode("46", "150")); // 순천시
-        regions.add(new RegionCode("46", "170")); // 나주시
-        regions.add(new RegionCode("46", "230")); // 광양시
-        
-        // 경상북도 (47) - 주요 시군
-        regions.add(new RegionCode("47", "110")); // 포항시
-        regions.add(new RegionCode("47", "130")); // 경주시
-        regions.add(new RegionCode("47", "150")); // 김천시
-        regions.add(new RegionCode("47", "170")); // 안동시
-        regions.add(new RegionCode("47", "190")); // 구미시
-        regions.add(new RegionCode("47", "210")); // 영주시
-        regions.add(new RegionCode("47", "230")); // 영천시
-        regions.add(new RegionCode("47", "250")); // 상주시
-        regions.add(new RegionCode("47", "280")); // 문경시
-        regions.add(new RegionCode("47", "290")); // 경산시
-        
-        // 경상남도 (48) - 주요 시군
-        regions.add(new RegionCode("48", "120")); // 창원시
-        regions.add(new RegionCode("48", "170")); // 진주시
-        regions.add(new RegionCode("48", "220")); // 통영시
-        regions.add(new RegionCode("48", "240")); // 사천시
-        regions.add(new RegionCode("48", "250")); // 김해시
-        regions.add(new RegionCode("48", "270")); // 밀양시
-        regions.add(new RegionCode("48", "310")); // 거제시
-        regions.add(new RegionCode("48", "330")); // 양산시
-        
-        // 제주특별자치도 (50)
-        regions.add(new RegionCode("50", "110")); // 제주시
-        regions.add(new RegionCode("50", "130")); // 서귀포시
-        
-        return regions;
+        return RegionDirectory.districts().stream()
+                .map(district -> new RegionCode(district.sidoCode(), district.sigunguCode()))
+                .toList();
     }
 
 
@@ -795,98 +658,97 @@ public class HousingInfoService {
             
             log.info("AI 추천 요청 수신: prompt={}, region={}", userPrompt, region);
 
-            List<String> regionCodes = getRegionCodes(region);
+            Staged<RecommendationResponse> total = stage("total", () -> recommend(userPrompt, region));
+            log.info("최종 추천 결과: {}건 반환 (총 처리 시간: {}ms)", total.value().recommendations().size(), total.millis());
+            return total.value();
 
-            if (regionCodes == null || regionCodes.isEmpty()) {
-                log.warn("권역 정보가 없거나 매핑되지 않음: {}", region);
-                throw new IllegalArgumentException("선택하신 지역 정보가 올바르지 않습니다. 다른 지역을 선택해주세요.");
-            }
+        } catch (IllegalArgumentException e) {
+            // 검증 오류는 그대로 전달
+            log.warn("AI 추천 요청 검증 실패: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("AI 추천 처리 중 오류 발생", e);
+            throw new RuntimeException("AI 추천 서비스 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
 
-            List<HousingInfo> allHousingInfo;
-            long startTime = System.currentTimeMillis();
+    // 지역 코드 → 주거정보 조회 → AI 전송 데이터 변환 → AI 추천 → 상위 5건 조립
+    private RecommendationResponse recommend(String userPrompt, String region) {
+        List<String> regionCodes = stage("region", () -> getRegionCodes(region)).value();
 
-            if (regionCodes.size() == 1 && regionCodes.get(0).length() == 2) {
-                String brtcCode = regionCodes.get(0);
-                String brtcNm = getBrtcNmFromCode(brtcCode);
-                if (brtcNm != null) {
-                    allHousingInfo = housingInfoRepository.findByBrtcNmLike(brtcNm);
-                } else {
-                    allHousingInfo = List.of();
-                }
-            } else {
-                allHousingInfo = getHousingInfoByRegionCodes(region, regionCodes);
-            }
+        if (regionCodes == null || regionCodes.isEmpty()) {
+            log.warn("권역 정보가 없거나 매핑되지 않음: {}", region);
+            throw new IllegalArgumentException("선택하신 지역 정보가 올바르지 않습니다. 다른 지역을 선택해주세요.");
+        }
 
-            long queryTime = System.currentTimeMillis() - startTime;
-            log.info("권역 '{}'에 해당하는 주거정보: {}건 조회 완료 (쿼리 시간: {}ms)", region, allHousingInfo.size(), queryTime);
+        Staged<List<HousingInfo>> query = stage("query", () -> findHousingInfo(region, regionCodes));
+        List<HousingInfo> allHousingInfo = query.value();
+        log.info("권역 '{}'에 해당하는 주거정보: {}건 조회 완료 (쿼리 시간: {}ms)", region, allHousingInfo.size(), query.millis());
 
-            if (allHousingInfo.isEmpty()) {
-                log.warn("필터링된 주거정보가 없습니다. region={}", region);
-                throw new IllegalArgumentException("선택하신 지역에 주거정보 데이터가 없습니다. 다른 지역을 선택해주세요.");
-            }
+        if (allHousingInfo.isEmpty()) {
+            log.warn("필터링된 주거정보가 없습니다. region={}", region);
+            throw new IllegalArgumentException("선택하신 지역에 주거정보 데이터가 없습니다. 다른 지역을 선택해주세요.");
+        }
 
-            // AI 전송 전 데이터 제한: 최대 10개로 제한 (30초 내외 응답 목표)
-            List<HousingInfo> limitedHousingInfo = allHousingInfo.size() > 10
-                ? allHousingInfo.subList(0, 10)
-                : allHousingInfo;
+        // AI 전송 전 데이터 제한: 최대 10개로 제한 (30초 내외 응답 목표)
+        List<HousingInfo> limitedHousingInfo = allHousingInfo.size() > 10
+            ? allHousingInfo.subList(0, 10)
+            : allHousingInfo;
 
-            // AI API 전송용 데이터 준비: 엔티티를 Map으로 변환 (필요한 필드만 추출)
-            long convertStartTime = System.currentTimeMillis();
-            List<Map<String, Object>> housingDataList = limitedHousingInfo.parallelStream()
-                    .map(this::convertToMap)
-                    .collect(Collectors.toList());
-            long convertTime = System.currentTimeMillis() - convertStartTime;
-            log.info("AI 전송용 데이터 준비 완료: {}건/{}건 (준비 시간: {}ms)", housingDataList.size(), allHousingInfo.size(), convertTime);
+        // AI API 전송용 데이터 준비: 엔티티를 Map으로 변환 (필요한 필드만 추출)
+        Staged<List<Map<String, Object>>> convert = stage("convert", () -> limitedHousingInfo.parallelStream()
+                .map(this::convertToMap)
+                .collect(Collectors.toList()));
+        List<Map<String, Object>> housingDataList = convert.value();
+        log.info("AI 전송용 데이터 준비 완료: {}건/{}건 (준비 시간: {}ms)", housingDataList.size(), allHousingInfo.size(), convert.millis());
 
-            // hsmpSn -> HousingInfo 매핑 생성 (추천 결과 검증 및 조회용)
-            Map<String, HousingInfo> housingInfoMap = allHousingInfo.stream()
-                    .collect(Collectors.toMap(HousingInfo::getHsmpSn, info -> info));
+        // hsmpSn -> HousingInfo 매핑 생성 (추천 결과 검증 및 조회용)
+        Map<String, HousingInfo> housingInfoMap = allHousingInfo.stream()
+                .collect(Collectors.toMap(HousingInfo::getHsmpSn, info -> info));
 
-            long aiStartTime = System.currentTimeMillis();
-            List<UpstageAiService.RecommendationResult> recommendationResults =
-                    upstageAiService.getRecommendations(userPrompt, housingDataList);
-            long aiTime = System.currentTimeMillis() - aiStartTime;
-            log.info("AI 추천 결과: {}건 추천됨 (AI 처리 시간: {}ms)", recommendationResults.size(), aiTime);
+        Staged<List<UpstageAiService.RecommendationResult>> ai =
+                stage("ai", () -> upstageAiService.getRecommendations(userPrompt, housingDataList));
+        List<UpstageAiService.RecommendationResult> recommendationResults = ai.value();
+        log.info("AI 추천 결과: {}건 추천됨 (AI 처리 시간: {}ms)", recommendationResults.size(), ai.millis());
 
-            List<RecommendationResponse.HousingRecommendation> recommendations = new ArrayList<>();
-            for (int i = 0; i < recommendationResults.size() && i < 5; i++) {
-                UpstageAiService.RecommendationResult result = recommendationResults.get(i);
+        List<RecommendationResponse.HousingRecommendation> recommendations = new ArrayList<>();
+        for (int i = 0; i < recommendationResults.size() && i < 5; i++) {
+            UpstageAiService.RecommendationResult result = recommendationResults.get(i);
+            
+            // hsmpSn이 유효한지 확인하고 HousingInfo 조회
+            HousingInfo housingInfo = housingInfoMap.get(result.getHsmpSn());
+            if (housingInfo != null) {
+                // HousingInfo를 HousingInfoDto로 변환
+                RecommendationResponse.HousingInfoDto housingInfoDto = 
+                        new RecommendationResponse.HousingInfoDto(
+                                housingInfo.getId(),
+                                housingInfo.getHsmpSn(),
+                                housingInfo.getBrtcNm(),
+                                housingInfo.getSignguNm(),
+                                housingInfo.getHsmpNm(),
+                                housingInfo.getHshldCo(),
+                                housingInfo.getBassRentGtn(),
+                                housingInfo.getBassMtRntchrg()
+                        );
                 
-                // hsmpSn이 유효한지 확인하고 HousingInfo 조회
-                HousingInfo housingInfo = housingInfoMap.get(result.getHsmpSn());
-                if (housingInfo != null) {
-                    // HousingInfo를 HousingInfoDto로 변환
-                    RecommendationResponse.HousingInfoDto housingInfoDto = 
-                            new RecommendationResponse.HousingInfoDto(
-                                    housingInfo.getId(),
-                                    housingInfo.getHsmpSn(),
-                                    housingInfo.getBrtcNm(),
-                                    housingInfo.getSignguNm(),
-                                    housingInfo.getHsmpNm(),
-                                    housingInfo.getHshldCo(),
-                                    housingInfo.getBassRentGtn(),
-                                    housingInfo.getBassMtRntchrg()
-                            );
-                    
-                    recommendations.add(new RecommendationResponse.HousingRecommendation(
-                            i + 1,
-                            housingInfoDto,
-                            result.getReason()
-                    ));
-                }
+                recommendations.add(new RecommendationResponse.HousingRecommendation(
+                        i + 1,
+                        housingInfoDto,
+                        result.getReason()
+                ));
             }
+        }
 
-            log.info("최종 추천 결과: {}건 반환 (총 처리 시간: {}ms)", recommendations.size(), System.currentTimeMillis() - startTime);
-            return new RecommendationResponse(recommendations);
+        return new RecommendationResponse(recommendations);
+    }
 
-        } catch (IllegalArgumentException e) {
-            // 검증 오류는 그대로 전달
-            log.warn("AI 추천 요청 검증 실패: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("AI 추천 처리 중 오류 발생", e);
-            throw new RuntimeException("AI 추천 서비스 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
+    // 권역 코드 → 주거정보 (광역시도 코드 하나면 시도 이름으로, 아니면 시군구 목록으로)
+    private List<HousingInfo> findHousingInfo(String region, List<String> regionCodes) {
+        if (regionCodes.size() == 1 && regionCodes.get(0).length() == 2) {
+            String brtcNm = getBrtcNmFromCode(regionCodes.get(0));
+            return brtcNm != null ? housingInfoRepository.findByBrtcNmLike(brtcNm) : List.of();
         }
+        return getHousingInfoByRegionCodes(region, regionCodes);
     }
 
     // AI를 활용한 주거정보 추천 (TOP5) - SSE 스트리밍 버전
@@ -0,0 +1,107 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.Comment.CommentCursor;
+import com.ganzithon.homemate.dto.Comment.CommentResponse;
+import com.ganzithon.homemate.dto.CursorResponse;
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PostDetailResponse;
+import com.ganzithon.homemate.dto.UserSummary;
+import com.ganzithon.homemate.entity.Comment;
+import com.ganzithon.homemate.entity.Post.Post;
+import com.ganzithon.homemate.event.PostEngagementEvent;
+import com.ganzithon.homemate.repository.CommentRepository;
+import com.ganzithon.homemate.repository.Post.PostLikeRepository;
+import com.ganzithon.homemate.repository.Post.PostRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// ========================================
+// 게시글 상세 화면 조립
+// - 트랜잭션(커넥션) 하나에서 게시글/이미지/조회수/댓글/좋아요를 모두 처리
+// - 게시글 작성자 + 댓글 작성자는 UserSummaryService 한 번 (캐시에 없는 id 만 조회)
+// - 좋아요 수와 likedByMe 는 쿼리 한 번
+// - 댓글은 첫 페이지만 포함 (나머지는 GET .../comments?cursor= 로)
+// ========================================
+@Service
+public class PostDetailAssembler {
+
+    // 상세 화면에 같이 내려주는 댓글 수
+    private static final int FIRST_COMMENT_PAGE_SIZE = 20;
+
+    private final PostRepository postRepository;
+    private final CommentService commentService;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final UserSummaryService userSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PostDetailAssembler(PostRepository postRepository,
+                               CommentService commentService,
+                               CommentRepository commentRepository,
+                               PostLikeRepository postLikeRepository,
+                               UserSummaryService userSummaryService,
+                               ApplicationEventPublisher eventPublisher) {
+        this.postRepository = postRepository;
+        this.commentService = commentService;
+        this.commentRepository = commentRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.userSummaryService = userSummaryService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // viewerId: 비로그인이면 null (likedByMe 도 null)
+    @Transactional
+    public PostDetailResponse assembleAndIncreaseView(PostCategory category, Long postId, Long viewerId) {
+        Post post = postRepository.findByIdAndCategory(postId, category)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+
+        // 동시 조회에도 누락되지 않도록 DB 에서 원자적으로 +1
+        postRepository.increaseViewCount(postId);
+        eventPublisher.publishEvent(PostEngagementEvent.view(category, postId));
+
+        List<Comment> comments = commentService.findPage(category, postId, null, FIRST_COMMENT_PAGE_SIZE);
+
+        // 게시글 작성자 + 댓글 작성자 한 번에 조회
+        Set<Long> userIds = new HashSet<>();
+        userIds.add(post.getUserId());
+        comments.forEach(c -> userIds.add(c.getUserId()));
+
+        Map<Long, UserSummary> userMap = userSummaryService.getAll(userIds);
+
+        UserSummary writer = userMap.get(post.getUserId());
+        if (writer == null) {
+            throw new IllegalStateException("작성자 정보를 찾을 수 없습니다.");
+        }
+
+        PostDetailResponse response = PostDetailResponse.from(post, writer);
+        response.setViewCount(post.getViewCount() + 1);
+
+        // 좋아요 정보
+        PostLikeRepository.LikeSummary likes = postLikeRepository.summarize(category, postId, viewerId);
+        response.setLikeCount(likes.getLikeCount());
+        if (viewerId != null) {
+            response.setLikedByMe(likes.getLikedByMe() > 0);
+        }
+
+        // 댓글 정보
+        CursorResponse<CommentResponse> firstPage = CursorResponse.of(
+                comments,
+                FIRST_COMMENT_PAGE_SIZE,
+                c -> CommentResponse.from(c, userMap.get(c.getUserId())),
+                c -> CommentCursor.of(c).encode()
+        );
+        response.setCommentCount(firstPage.isHasNext()
+                ? commentRepository.countByCategoryAndPostId(category, postId)
+                : firstPage.getContent().size());
+        response.setComments(firstPage.getContent());
+        response.setCommentsNextCursor(firstPage.getNextCursor());
+
+        return response;
+    }
+}
@@ -1,8 +1,10 @@
 package com.ganzithon.homemate.service;
 
 import com.ganzithon.homemate.dto.Post.PostCategory;
-import com.ganzithon.homemate.entity.Post.PostLike;
+import com.ganzithon.homemate.dto.Post.LikeResponse;
+import com.ganzithon.homemate.event.PostEngagementEvent;
 import com.ganzithon.homemate.repository.Post.PostLikeRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,44 +12,41 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostLikeService {
 
     private final PostLikeRepository postLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PostLikeService(PostLikeRepository postLikeRepository) {
+    public PostLikeService(PostLikeRepository postLikeRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.postLikeRepository = postLikeRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    // 이미 눌렀으면 그냥 무시 (idempotent)
+    // 동시에 두 번 눌러도 INSERT ... ON DUPLICATE KEY 라 제약 위반 없음
     @Transactional
-    public void like(PostCategory category, Long postId, Long userId) {
-        // 이미 눌렀으면 그냥 무시 (idempotent)
-        if (postLikeRepository.existsByCategoryAndPostIdAndUserId(category, postId, userId)) {
-            return;
-        }
-        postLikeRepository.save(PostLike.create(category, postId, userId));
+    public LikeResponse like(PostCategory category, Long postId, Long userId) {
+        postLikeRepository.insertIfAbsent(category.name(), postId, userId);
+        return likeState(category, postId, true);
     }
 
     @Transactional
-    public void unlike(PostCategory category, Long postId, Long userId) {
-        postLikeRepository.findByCategoryAndPostIdAndUserId(category, postId, userId)
-                .ifPresent(postLikeRepository::delete);
+    public LikeResponse unlike(PostCategory category, Long postId, Long userId) {
+        postLikeRepository.deleteByCategoryAndPostIdAndUserId(category, postId, userId);
+        return likeState(category, postId, false);
     }
 
-    public long getLikeCount(PostCategory category, Long postId) {
-        return postLikeRepository.countByCategoryAndPostId(category, postId);
+    // 반영 후 좋아요 수 (인기글 점수는 이 값과 이전 값의 차이로 갱신)
+    private LikeResponse likeState(PostCategory category, Long postId, boolean liked) {
+        long likeCount = postLikeRepository.countByCategoryAndPostId(category, postId);
+        eventPublisher.publishEvent(PostEngagementEvent.likeCount(category, postId, likeCount));
+        return new LikeResponse(liked, likeCount);
     }
 
-    public boolean likedByUser(PostCategory category, Long postId, Long userId) {
-        return postLikeRepository.existsByCategoryAndPostIdAndUserId(category, postId, userId);
-    }
-
-    // ★ 게시판 이동 시 좋아요 모두 이동
+    // ★ 게시판 이동 시 좋아요 모두 이동 (엔티티 로딩 없이 UPDATE 한 번)
     @Transactional
-    public void moveAll(PostCategory fromCategory,
-                        Long fromPostId,
-                        PostCategory toCategory,
-                        Long toPostId) {
-
-        var likes = postLikeRepository.findByCategoryAndPostId(fromCategory, fromPostId);
-        for (PostLike like : likes) {
-            like.moveTo(toCategory, toPostId); // 엔티티 수정 → JPA 더티체킹
-        }
+    public int moveAll(PostCategory fromCategory,
+                       Long fromPostId,
+                       PostCategory toCategory,
+                       Long toPostId) {
+        return postLikeRepository.moveAll(fromCategory, fromPostId, toCategory, toPostId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,289 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.Post.CreatePostRequest;
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PostListItemResponse;
+import com.ganzithon.homemate.dto.Post.PostSearchCondition;
+import com.ganzithon.homemate.dto.Post.UpdatePostRequest;
+import com.ganzithon.homemate.dto.UserSummary;
+
+import com.ganzithon.homemate.entity.Post.Post;
+import com.ganzithon.homemate.entity.Post.PostImage;
+
+import com.ganzithon.homemate.event.PostChangedEvent;
+import com.ganzithon.homemate.repository.Post.PostImageRepository;
+import com.ganzithon.homemate.repository.Post.PostRepository;
+import com.ganzithon.homemate.repository.Post.PostSpecifications;
+
+import com.ganzithon.homemate.service.storage.PostImageFiles;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// ========================================
+// ROOMMATE / FREE / POLICY 게시글 공통 서비스
+// - 게시판별 필수값
+//   · FREE: 제목/내용/지역 필수
+//   · ROOMMATE: 제목/내용/지역 + openchatUrl 필수
+//   · POLICY: 제목/내용만 필수 (지역은 선택)
+// - 이미지 파일은 트랜잭션 밖에서 병렬 업로드 → DB 커넥션은 row 저장 동안만 사용
+// ========================================
+@Service
+public class PostService {
+
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostImageFiles postImageFiles;
+    private final CommentService commentService;
+    private final PostLikeService postLikeService;
+    private final UserSummaryService userSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate tx;
+
+    public PostService(
+            PostRepository postRepository,
+            PostImageRepository postImageRepository,
+            PostImageFiles postImageFiles,
+            CommentService commentService,
+            PostLikeService postLikeService,
+            UserSummaryService userSummaryService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.postRepository = postRepository;
+        this.postImageRepository = postImageRepository;
+        this.postImageFiles = postImageFiles;
+        this.commentService = commentService;
+        this.postLikeService = postLikeService;
+        this.userSummaryService = userSummaryService;
+        this.eventPublisher = eventPublisher;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    // ========================================
+    // CREATE
+    // - 파일 먼저 업로드, 트랜잭션이 롤백되면 올린 파일 삭제
+    // ========================================
+    public void create(Long userId, CreatePostRequest req, List<MultipartFile> images) {
+        PostCategory category = req.getCategory();
+        validateTextFields(category, req.getTitle(), req.getContent(),
+                req.getSidoCode(), req.getSigunguCode(), req.getOpenchatUrl());
+
+        List<String> directUrls = postImageFiles.acceptDirectUploads(req.getImageUrls());
+        List<String> uploadedUrls = postImageFiles.uploadAll(category, images);
+
+        tx.executeWithoutResult(status -> {
+            postImageFiles.deleteOnRollback(category, uploadedUrls);
+            acceptUnreferenced(category, directUrls);
+
+            Post post = Post.create(userId, req);
+            postRepository.save(post);
+            postImageRepository.insertAll(post.getId(), concat(uploadedUrls, directUrls));
+
+            eventPublisher.publishEvent(PostChangedEvent.of(category, post.getId()));
+        });
+    }
+
+    // ========================================
+    // UPDATE (+ 게시판 이동)
+    // - newCategory 가 없거나 같으면 같은 게시판 안에서 수정
+    // - 다르면 같은 row 에서 category 만 바꾸고 댓글/좋아요도 따라 이동
+    // - images, imageUrls 가 모두 null 이면 기존 이미지 유지, 아니면 전체 교체
+    //   (새 파일은 트랜잭션 전에 업로드, 기존 파일은 커밋 후 삭제)
+    // ========================================
+    public void update(
+            Long userId,
+            PostCategory category,
+            Long postId,
+            UpdatePostRequest req,
+            List<MultipartFile> images
+    ) {
+        PostCategory targetCategory = (req.getNewCategory() != null) ? req.getNewCategory() : category;
+
+        // 타겟 게시판의 요구사항을 모두 만족해야 함
+        validateTextFields(targetCategory, req.getTitle(), req.getContent(),
+                req.getSidoCode(), req.getSigunguCode(), req.getOpenchatUrl());
+
+        boolean replaceImages = images != null || req.getImageUrls() != null;
+        List<String> directUrls = postImageFiles.acceptDirectUploads(req.getImageUrls());
+        List<String> uploadedUrls = postImageFiles.uploadAll(targetCategory, images);
+
+        tx.executeWithoutResult(status -> {
+            postImageFiles.deleteOnRollback(targetCategory, uploadedUrls);
+
+            Post post = findPost(category, postId);
+
+            if (!post.isOwner(userId)) {
+                throw new AccessDeniedException("본인 게시글만 수정할 수 있습니다.");
+            }
+
+            post.updateAll(targetCategory, req);
+
+            if (targetCategory != category) {
+                commentService.moveAll(category, postId, targetCategory, postId);
+                postLikeService.moveAll(category, postId, targetCategory, postId);
+                eventPublisher.publishEvent(PostChangedEvent.of(category, postId));
+            }
+
+            // 이미지 전체 교체
+            // - imageUrls 에 기존 이미지 URL 을 넣으면 그 이미지는 유지 (파일 삭제 안 함)
+            if (replaceImages) {
+                List<PostImage> current = List.copyOf(post.getImages());
+                Set<String> currentUrls = current.stream().map(PostImage::getUrl).collect(Collectors.toSet());
+
+                acceptUnreferenced(targetCategory, directUrls.stream()
+                        .filter(url -> !currentUrls.contains(url))
+                        .toList());
+                postImageFiles.deleteAfterCommit(category, current.stream()
+                        .filter(img -> !directUrls.contains(img.getUrl()))
+                        .toList());
+
+                postImageRepository.deleteByPostId(postId);
+                postImageRepository.insertAll(postId, concat(uploadedUrls, directUrls));
+            }
+
+            eventPublisher.publishEvent(PostChangedEvent.of(targetCategory, postId));
+        });
+    }
+
+    // ========================================
+    // DELETE
+    // ========================================
+    @Transactional
+    public void delete(Long userId, PostCategory category, Long postId) {
+        Post post = findPost(category, postId);
+
+        if (!post.isOwner(userId)) {
+            throw new AccessDeniedException("본인 게시글만 삭제할 수 있습니다.");
+        }
+
+        // 파일은 커밋 후 삭제 (롤백되면 그대로 남음)
+        postImageFiles.deleteAfterCommit(category, post.getImages());
+
+        eventPublisher.publishEvent(PostChangedEvent.of(category, postId));
+        postRepository.delete(post); // cascade 로 image row 삭제
+    }
+
+    // LIST (+ 검색/지역/기간 필터)
+    // - 조건 조합과 상관없이 Specification 하나로 조회
+    @Transactional(readOnly = true)
+    public Page<PostListItemResponse> getList(PostSearchCondition condition, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, LATEST_FIRST);
+        Page<Post> posts = postRepository.findAll(PostSpecifications.matching(condition), pageable);
+
+        return toListItems(condition.category(), posts);
+    }
+
+    // 주어진 id 순서 그대로 목록 아이템 조립 (인기글 등)
+    // - 그 사이 삭제되었거나 다른 게시판으로 이동한 글은 제외
+    @Transactional(readOnly = true)
+    public List<PostListItemResponse> getListItems(PostCategory category, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> byId = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, p -> p));
+
+        List<Post> posts = postIds.stream()
+                .map(byId::get)
+                .filter(p -> p != null && p.getCategory() == category)
+                .toList();
+
+        return toListItems(category, posts);
+    }
+
+    // 직접 업로드 URL 로 남의 글 이미지를 가져와 지우는 것 방지
+    // - 발급한 형식의 키이고 어느 글의 원본/변환본도 아니어야 함
+    // - 검사를 통과한 뒤에야 롤백 시 삭제 대상에 넣음
+    private void acceptUnreferenced(PostCategory category, List<String> directUrls) {
+        if (directUrls.isEmpty()) {
+            return;
+        }
+        postImageFiles.requireIssuedUploads(directUrls);
+        if (postImageRepository.existsAnyUrlIn(directUrls)) {
+            throw new IllegalArgumentException("이미 사용 중인 이미지입니다.");
+        }
+        postImageFiles.deleteOnRollback(category, directUrls);
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        if (second.isEmpty()) {
+            return first;
+        }
+        return Stream.concat(first.stream(), second.stream()).toList();
+    }
+
+    private Post findPost(PostCategory category, Long postId) {
+        return postRepository.findByIdAndCategory(postId, category)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+    }
+
+    private Page<PostListItemResponse> toListItems(PostCategory category, Page<Post> posts) {
+        return new PageImpl<>(toListItems(category, posts.getContent()), posts.getPageable(), posts.getTotalElements());
+    }
+
+    private List<PostListItemResponse> toListItems(PostCategory category, List<Post> posts) {
+        Set<Long> userIds = posts.stream()
+                .map(Post::getUserId)
+                .collect(Collectors.toSet());
+
+        Map<Long, UserSummary> userMap = userSummaryService.getAll(userIds);
+
+        Map<Long, Long> commentCounts = commentService.getCommentCounts(
+                category,
+                posts.stream().map(Post::getId).toList()
+        );
+
+        return posts.stream()
+                .map(post -> {
+                    UserSummary writer = userMap.get(post.getUserId());
+                    PostListItemResponse dto = PostListItemResponse.from(post, writer);
+                    dto.setCommentCount(commentCounts.getOrDefault(post.getId(), 0L));
+                    return dto;
+                })
+                .toList();
+    }
+
+    private void validateTextFields(
+            PostCategory category,
+            String title,
+            String content,
+            String sidoCode,
+            String sigunguCode,
+            String openchatUrl
+    ) {
+        if (!StringUtils.hasText(title)) {
+            throw new IllegalArgumentException("제목은 필수입니다.");
+        }
+        if (!StringUtils.hasText(content)) {
+            throw new IllegalArgumentException("내용은 필수입니다.");
+        }
+        // 지역은 POLICY 에서만 선택 값
+        if (category != PostCategory.POLICY &&
+                (!StringUtils.hasText(sidoCode) || !StringUtils.hasText(sigunguCode))) {
+            throw new IllegalArgumentException("지역 정보는 필수입니다.");
+        }
+        if (category == PostCategory.ROOMMATE && !StringUtils.hasText(openchatUrl)) {
+            throw new IllegalArgumentException("ROOMMATE 게시판은 openchatUrl이 필수입니다.");
+        }
+    }
+}
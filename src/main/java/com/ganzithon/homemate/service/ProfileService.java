@@ -3,57 +3,114 @@ package com.ganzithon.homemate.service;
 import com.ganzithon.homemate.dto.Profile.ProfileResponse;
 import com.ganzithon.homemate.dto.Profile.ProfileUpdateRequest;
 import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.event.ProfileChangedEvent;
 import com.ganzithon.homemate.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.ganzithon.homemate.service.image.AvatarImageWriter;
+import com.ganzithon.homemate.service.image.AvatarSize;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+// 프로필 아바타는 ImageStorage 를 거치지 않고 이 인스턴스의 uploadPath 에 저장
+// - homemate.storage.type=s3 로 여러 대를 띄우면 다른 인스턴스에서는 404
+//   → 공유 볼륨에 uploadPath 를 두거나 단일 인스턴스로 운영
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class ProfileService {
+public class ProfileService implements MeterBinder {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AvatarImageWriter avatarImageWriter;
 
     @Value("${uploadPath}")
     private String uploadPath;
 
+    // userId → 프로필 이미지 상대 경로 ("" = 없음)
+    // - 이미지 요청마다 DB 를 조회하지 않도록, 변경 커밋 시 제거
+    private final Cache<Long, String> profileImagePaths;
+
+    // userId → 조립된 프로필 응답
+    // - 이미지 유무는 DB 의 profile_image_path 로 판단 (저장 성공 후에만 경로 기록, 삭제 시 null)
+    //   → 조회 시 디스크 확인 없음
+    // - 변경 커밋 후 제거 (다음 조회 때 다시 조립)
+    // - 제거는 이 인스턴스에서만 → 다른 인스턴스는 TTL 이 지나면 반영
+    private final Cache<Long, ProfileResponse> profiles;
+
+    public ProfileService(
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            AvatarImageWriter avatarImageWriter,
+            @Value("${homemate.profile.cache-size:10000}") long cacheSize,
+            @Value("${homemate.profile.image-path-cache-size:10000}") long imagePathCacheSize,
+            @Value("${homemate.profile.ttl-seconds:300}") long ttlSeconds,
+            @Value("${homemate.storage.type:local}") String storageType
+    ) {
+        if ("s3".equalsIgnoreCase(storageType)) {
+            log.warn("프로필 이미지는 S3 가 아니라 로컬 uploadPath 에 저장됩니다. "
+                    + "여러 인스턴스로 운영하면 uploadPath 를 공유 볼륨에 두어야 합니다.");
+        }
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.avatarImageWriter = avatarImageWriter;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.profileImagePaths = Caffeine.newBuilder()
+                .maximumSize(imagePathCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
     private static final String DEFAULT_PROFILE_IMAGE_URL = "https://search.pstatic.net/common/?src=http%3A%2F%2Fblogfiles.naver.net%2FMjAyMzEwMDZfODkg%2FMDAxNjk2NTkwNTMzMDAx.RudBnFXJwhasTj5zoo5AqrChfOp7nPae-OoNR-CCQ1wg.N-AzWRf8aSC3GU66AZk9Dzi-J6d_gKk3aXJqbApL7ZUg.JPEG.tmvldkrk%2F104.jpg&type=sc960_832";
 
-    @Transactional(readOnly = true)
+    // 캐시 적중률 (cache.gets{result=hit|miss} 등)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, profiles, "profile");
+        CaffeineCacheMetrics.monitor(registry, profileImagePaths, "profile.image-path");
+    }
+
+    // 캐시에 있으면 DB/디스크 모두 접근하지 않음 (트랜잭션도 열지 않음)
+    // - 없는 사용자는 캐시하지 않음 (예외가 그대로 전달됨)
     public ProfileResponse getProfile(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        
-        // 프로필 이미지 URL 생성 (이미지가 있으면 URL 반환, 없으면 기본 이미지 URL)
-        String profileImageUrl = DEFAULT_PROFILE_IMAGE_URL;
-        if (user.getProfileImagePath() != null && !user.getProfileImagePath().isEmpty()) {
-            // 실제로 파일이 존재하는지 확인
-            Path filePath = Paths.get(uploadPath).resolve(user.getProfileImagePath()).normalize();
-            if (Files.exists(filePath)) {
-                profileImageUrl = "/api/profile/image/" + userId;
-            }
-        }
+        return profiles.get(userId, id -> userRepository.findById(id)
+                .map(this::toResponse)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")));
+    }
 
-        return ProfileResponse.of(
-                user.getId(),
-                user.getLoginId(),
-                user.getDesiredArea(),
-                user.getDesiredMoveInDate(),
-                user.getIntroduction(),
-                profileImageUrl
-        );
+    // 여러 명을 한 번에 (캐시에 없는 것만 IN 조회 하나로), 없는 사용자는 맵에 없음
+    public Map<Long, ProfileResponse> getProfiles(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return profiles.getAll(userIds, missingIds -> userRepository.findAllById(List.<Long>copyOf(missingIds)).stream()
+                .collect(Collectors.toMap(User::getId, this::toResponse)));
     }
 
     @Transactional
@@ -89,25 +146,7 @@ public class ProfileService {
         );
 
         userRepository.save(user);
-
-        // 프로필 이미지 URL 생성
-        String profileImageUrl = DEFAULT_PROFILE_IMAGE_URL;
-        if (profileImagePath != null && !profileImagePath.isEmpty()) {
-            // 실제로 파일이 존재하는지 확인
-            Path filePath = Paths.get(uploadPath).resolve(profileImagePath).normalize();
-            if (Files.exists(filePath)) {
-                profileImageUrl = "/api/profile/image/" + userId;
-            }
-        }
-
-        return ProfileResponse.of(
-                user.getId(),
-                user.getLoginId(),
-                user.getDesiredArea(),
-                user.getDesiredMoveInDate(),
-                user.getIntroduction(),
-                profileImageUrl
-        );
+        return profileChanged(user);
     }
 
     @Transactional
@@ -115,32 +154,16 @@ public class ProfileService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // 기존 이미지 파일 삭제
+        // 기존 이미지 파일은 커밋 후 삭제
         if (user.getProfileImagePath() != null && !user.getProfileImagePath().isEmpty()) {
-            deleteProfileImageFile(user.getProfileImagePath());
+            deleteFilesAfterCommit(user.getProfileImagePath());
         }
 
-        // 프로필 이미지 경로를 null로 업데이트
-        user.updateProfile(
-                user.getDesiredArea(),
-                user.getDesiredMoveInDate(),
-                user.getIntroduction(),
-                null
-        );
+        // 프로필 이미지 경로를 null로 업데이트 (updateProfile 은 null 경로를 무시하므로 직접)
+        user.updateProfileImagePath(null);
 
         userRepository.save(user);
-
-        // 프로필 이미지 URL 생성
-        String profileImageUrl = DEFAULT_PROFILE_IMAGE_URL;
-
-        return ProfileResponse.of(
-                user.getId(),
-                user.getLoginId(),
-                user.getDesiredArea(),
-                user.getDesiredMoveInDate(),
-                user.getIntroduction(),
-                profileImageUrl
-        );
+        return profileChanged(user);
     }
 
     @Transactional
@@ -157,24 +180,7 @@ public class ProfileService {
         );
 
         userRepository.save(user);
-
-        // 프로필 이미지 URL 생성
-        String profileImageUrl = DEFAULT_PROFILE_IMAGE_URL;
-        if (user.getProfileImagePath() != null && !user.getProfileImagePath().isEmpty()) {
-            Path filePath = Paths.get(uploadPath).resolve(user.getProfileImagePath()).normalize();
-            if (Files.exists(filePath)) {
-                profileImageUrl = "/api/profile/image/" + userId;
-            }
-        }
-
-        return ProfileResponse.of(
-                user.getId(),
-                user.getLoginId(),
-                null,
-                null,
-                null,
-                profileImageUrl
-        );
+        return profileChanged(user);
     }
 
     @Transactional
@@ -182,9 +188,9 @@ public class ProfileService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // 기존 이미지 파일 삭제
+        // 기존 이미지 파일은 커밋 후 삭제
         if (user.getProfileImagePath() != null && !user.getProfileImagePath().isEmpty()) {
-            deleteProfileImageFile(user.getProfileImagePath());
+            deleteFilesAfterCommit(user.getProfileImagePath());
         }
 
         // 프로필 내용을 null로 업데이트
@@ -199,82 +205,108 @@ public class ProfileService {
         user.updateProfileImagePath(null);
 
         userRepository.save(user);
-
-        return ProfileResponse.of(
-                user.getId(),
-                user.getLoginId(),
-                null,
-                null,
-                null,
-                DEFAULT_PROFILE_IMAGE_URL
-        );
+        return profileChanged(user);
     }
 
+    // 새 아바타를 먼저 저장 (저장 실패 시 기존 이미지 유지)
+    // - 롤백되면 새로 쓴 파일 삭제, 커밋되면 기존 파일 삭제 (PostImageFiles 와 같은 방식)
     private String saveProfileImage(Long userId, MultipartFile file, User user) {
+        String baseName = userId + "_" + UUID.randomUUID();
         try {
-            // 기존 이미지가 있으면 삭제 (이미지 변경 시)
-            // 이미지가 없는 상태에서 추가하는 경우에는 이 부분이 실행되지 않음
-            if (user.getProfileImagePath() != null && !user.getProfileImagePath().isEmpty()) {
-                deleteProfileImageFile(user.getProfileImagePath());
-            }
+            avatarImageWriter.write(file, Paths.get(uploadPath, "profiles"), baseName);
+        } catch (IOException e) {
+            throw new RuntimeException("프로필 이미지 저장 중 오류가 발생했습니다.", e);
+        }
+        String imagePath = "profiles/" + AvatarSize.largest().fileName(baseName);
+        deleteFilesOnRollback(imagePath);
+
+        if (StringUtils.hasText(user.getProfileImagePath())) {
+            deleteFilesAfterCommit(user.getProfileImagePath());
+        }
+        return imagePath;
+    }
 
-            // 업로드 디렉토리 확인 및 생성
-            Path uploadDir = Paths.get(uploadPath, "profiles");
-            if (!Files.exists(uploadDir)) {
-                Files.createDirectories(uploadDir);
+    // 현재 트랜잭션이 롤백되면 삭제 (DB 가 가리키지 않는 새 파일)
+    private void deleteFilesOnRollback(String imagePath) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteProfileImageFile(imagePath);
+                }
             }
+        });
+    }
 
-            // 파일명 생성 (userId_originalFileName)
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+    // 현재 트랜잭션이 커밋되면 삭제 (롤백되면 DB 가 계속 가리키므로 유지)
+    private void deleteFilesAfterCommit(String imagePath) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteProfileImageFile(imagePath);
             }
-            String filename = userId + "_" + UUID.randomUUID().toString() + extension;
-            
-            // 파일 저장
-            Path filePath = uploadDir.resolve(filename);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            // 상대 경로 반환
-            return "profiles/" + filename;
-        } catch (IOException e) {
-            throw new RuntimeException("프로필 이미지 저장 중 오류가 발생했습니다.", e);
-        }
+        });
     }
 
+    // 모든 크기 삭제 (이전 방식 원본이면 원본 하나)
     private void deleteProfileImageFile(String imagePath) {
-        try {
-            Path filePath = Paths.get(uploadPath).resolve(imagePath).normalize();
-            if (Files.exists(filePath)) {
-                Files.delete(filePath);
+        for (AvatarSize size : AvatarSize.values()) {
+            try {
+                Files.deleteIfExists(Paths.get(uploadPath).resolve(size.resolve(imagePath)).normalize());
+            } catch (IOException e) {
+                // 파일 삭제 실패해도 계속 진행 (이미 DB에서 제거됨)
+                log.warn("프로필 이미지 삭제 실패: {}", imagePath, e);
             }
-        } catch (IOException e) {
-            // 파일 삭제 실패해도 계속 진행 (이미 DB에서 제거됨)
-            // 로그만 남기고 예외는 던지지 않음
         }
     }
 
-    public Resource loadProfileImage(Long userId) {
-        try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    // 프로필 이미지 파일 위치 (없으면 null)
+    public Path findProfileImageFile(Long userId, AvatarSize size) {
+        String relative = profileImagePaths.get(userId, id ->
+                userRepository.findProfileImagePathById(id).orElse(""));
+        if (relative.isEmpty()) {
+            return null;
+        }
+        return Paths.get(uploadPath).resolve(size.resolve(relative)).normalize();
+    }
 
-            if (user.getProfileImagePath() == null || user.getProfileImagePath().isEmpty()) {
-                throw new IllegalArgumentException("프로필 이미지가 없습니다.");
-            }
+    // 변경된 프로필 응답을 만들고, 커밋 후 캐시 제거
+    // - 커밋 전에 지우면 다른 요청이 이전 값을 다시 캐시할 수 있음
+    // - 작성자 요약 캐시(UserSummaryService) 는 이벤트로 커밋 후 제거
+    private ProfileResponse profileChanged(User user) {
+        Long userId = user.getId();
+        eventPublisher.publishEvent(ProfileChangedEvent.of(userId));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+        } else {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+        return toResponse(user);
+    }
 
-            Path filePath = Paths.get(uploadPath).resolve(user.getProfileImagePath()).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
+    private void evict(Long userId) {
+        profileImagePaths.invalidate(userId);
+        profiles.invalidate(userId);
+    }
 
-            if (resource.exists() && resource.isReadable()) {
-                return resource;
-            } else {
-                throw new IllegalArgumentException("프로필 이미지를 읽을 수 없습니다.");
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("프로필 이미지 로드 중 오류가 발생했습니다.", e);
-        }
+    private ProfileResponse toResponse(User user) {
+        String profileImageUrl = StringUtils.hasText(user.getProfileImagePath())
+                ? "/api/profile/image/" + user.getId()
+                : DEFAULT_PROFILE_IMAGE_URL;
+
+        return ProfileResponse.of(
+                user.getId(),
+                user.getLoginId(),
+                user.getDesiredArea(),
+                user.getDesiredMoveInDate(),
+                user.getIntroduction(),
+                profileImageUrl
+        );
     }
 }
-
@@ -0,0 +1,122 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.Login.LoginResponse;
+import com.ganzithon.homemate.entity.RefreshToken;
+import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.jwt.JwtProperties;
+import com.ganzithon.homemate.jwt.JwtTokenProvider;
+import com.ganzithon.homemate.repository.RefreshTokenRepository;
+import com.ganzithon.homemate.repository.UserRepository;
+import com.ganzithon.homemate.security.AccessTokenDenylist;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+// ========================================
+// access(짧은 수명) + refresh(회전) 토큰 발급
+// - 로그인 시에만 BCrypt 검증, 이후 재발급은 refresh token 으로
+// - refresh token 은 1회용: 재발급할 때마다 새 토큰, 이전 토큰은 사용 처리
+// - 이미 사용된 토큰이 다시 오면 탈취로 보고 같은 family 전체 폐기
+//   (+ 그 family 로 발급된 access token 도 denylist 에 추가)
+// ========================================
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final String INVALID = "유효하지 않은 refresh token 입니다.";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtProperties jwtProperties;
+    private final AccessTokenDenylist accessTokenDenylist;
+
+    // 새 로그인 → 새 family
+    @Transactional
+    public LoginResponse issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    // 재사용 감지 시 family 폐기는 커밋되어야 하므로 IllegalArgumentException 은 롤백하지 않음
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public LoginResponse rotate(String rawToken) {
+        Instant now = Instant.now();
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .filter(t -> t.isUsable(now))
+                .orElseThrow(() -> new IllegalArgumentException(INVALID));
+
+        if (refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            log.warn("refresh token 재사용 감지 (userId={}, family={}) → family 폐기", token.getUserId(), token.getFamilyId());
+            revokeFamily(token.getFamilyId(), now);
+            throw new IllegalArgumentException(INVALID);
+        }
+
+        User user = userRepository.findById(token.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException(INVALID));
+        return issue(user, token.getFamilyId());
+    }
+
+    // 로그아웃: 이 로그인(family) 의 refresh/access token 모두 폐기
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> revokeFamily(token.getFamilyId(), Instant.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${homemate.auth.refresh-cleanup-ms:3600000}")
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private LoginResponse issue(User user, String familyId) {
+        String accessJti = UUID.randomUUID().toString();
+        String refreshToken = newRefreshToken();
+
+        refreshTokenRepository.save(RefreshToken.issue(
+                hash(refreshToken),
+                user.getId(),
+                familyId,
+                accessJti,
+                Instant.now().plusMillis(jwtProperties.getRefreshTokenExpiration())
+        ));
+        return new LoginResponse(user.createAccessToken(jwtTokenProvider, accessJti), refreshToken);
+    }
+
+    private void revokeFamily(String familyId, Instant now) {
+        long accessTtl = jwtProperties.getAccessTokenExpiration();
+        List<String> accessJtis = refreshTokenRepository.findAccessJtis(familyId, now.minusMillis(accessTtl));
+
+        refreshTokenRepository.revokeFamily(familyId, now);
+        accessTokenDenylist.revokeAll(accessJtis, now.plusMillis(accessTtl));
+    }
+
+    private static String newRefreshToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.ganzithon.homemate.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +22,7 @@ import org.springframework.web.client.RestTemplate;
 public class UpstageAiService {
 
     private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
     
     // ObjectMapper는 Spring Boot에서 자동으로 Bean으로 등록되므로 주입받거나 직접 생성
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -39,7 +42,23 @@ public class UpstageAiService {
      //@param housingDataList DB에서 조회한 주거정보 목록
      //@return 추천 결과 (hsmpSn과 reason 포함)
 
+    // 호출 지연/결과를 homemate.upstream.ai 로 기록 (outcome = success | empty | error)
     public List<RecommendationResult> getRecommendations(String userPrompt, List<Map<String, Object>> housingDataList) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            List<RecommendationResult> results = requestRecommendations(userPrompt, housingDataList);
+            outcome = results.isEmpty() ? "empty" : "success";
+            return results;
+        } finally {
+            sample.stop(Timer.builder("homemate.upstream.ai")
+                    .description("Upstage AI 추천 호출 (재시도 포함)")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private List<RecommendationResult> requestRecommendations(String userPrompt, List<Map<String, Object>> housingDataList) {
         try {
             // 이미 HousingInfoService에서 10개로 제한되었으므로 그대로 사용
             // 주거정보 데이터를 JSON 문자열로 변환 (최소화된 필드만 포함)
@@ -110,6 +129,7 @@ public class UpstageAiService {
                 if (e.getCause() instanceof java.net.SocketTimeoutException) {
                     // 데이터를 더 줄여서 재시도 (5개로)
                     if (housingDataList.size() > 5) {
+                        meterRegistry.counter("homemate.upstream.ai.retries", "reason", "timeout").increment();
                         List<Map<String, Object>> retryDataList = housingDataList.subList(0, 5);
                         String retryDataJson = objectMapper.writeValueAsString(retryDataList);
                         String retryUserMessage = String.format("%s\n%s", userPrompt, retryDataJson);
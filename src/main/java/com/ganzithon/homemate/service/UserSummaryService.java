@@ -0,0 +1,75 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.UserSummary;
+import com.ganzithon.homemate.event.ProfileChangedEvent;
+import com.ganzithon.homemate.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// ========================================
+// 작성자 요약 (id, loginId, 프로필 이미지 URL)
+// - 목록/상세/댓글/메인 화면이 모두 이 서비스로 작성자 정보 조회
+// - 캐시에 없는 id 만 모아서 projection 쿼리 한 번 (User 엔티티 로딩 없음)
+// - 크기/TTL 제한 캐시, 프로필 변경 커밋 시 해당 사용자 제거
+//   (제거는 이 인스턴스에서만 → 다른 인스턴스는 TTL 이 지나면 반영)
+// ========================================
+@Service
+public class UserSummaryService implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSummary> cache;
+
+    public UserSummaryService(
+            UserRepository userRepository,
+            @Value("${homemate.user-summary.cache-size:10000}") long cacheSize,
+            @Value("${homemate.user-summary.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user-summary");
+    }
+
+    // id → 요약 (없는 사용자는 맵에 없음)
+    public Map<Long, UserSummary> getAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return cache.getAll(userIds, this::load);
+    }
+
+    public UserSummary get(Long userId) {
+        return getAll(Set.of(userId)).get(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        cache.invalidate(event.userId());
+    }
+
+    private Map<Long, UserSummary> load(Set<? extends Long> missingIds) {
+        return userRepository.findSummariesByIdIn(missingIds).stream()
+                .map(row -> UserSummary.of(row.getId(), row.getLoginId(), row.getProfileImagePath()))
+                .collect(Collectors.toMap(UserSummary::id, Function.identity()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.ganzithon.homemate.service.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// ========================================
+// 프로필 이미지 업로드 → 정사각형 아바타 JPEG (AvatarSize 별)
+// - 앞부분 magic bytes 로 실제 형식 확인 (이미지가 아니면 거절)
+// - 고정 크기 버퍼로 임시 파일에 스트리밍, 최대 크기를 넘으면 중단
+// - 임시 파일에서 서브샘플링 디코딩 → 크기별 JPEG (원본은 보관하지 않음)
+// - 결과 파일은 모두 쓴 뒤 원자적 이동 (중간에 실패하면 아무것도 남지 않음)
+// - 로컬 디렉터리 전용 (ImageStorage/S3 미지원, ProfileService 참고)
+// ========================================
+@Component
+public class AvatarImageWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final long maxBytes;
+
+    public AvatarImageWriter(@Value("${homemate.profile.max-image-bytes:10485760}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    // dir 에 AvatarSize.fileName(baseName) 들로 저장
+    public void write(MultipartFile file, Path dir, String baseName) throws IOException {
+        if (file.getSize() > maxBytes) {
+            throw tooLarge();
+        }
+        Files.createDirectories(dir);
+
+        Map<AvatarSize, byte[]> avatars;
+        Path upload = Files.createTempFile(dir, "upload-", ".tmp");
+        try {
+            copyBounded(file, upload);
+            avatars = decode(upload);
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+
+        List<Path> moved = new ArrayList<>();
+        try {
+            for (Map.Entry<AvatarSize, byte[]> e : avatars.entrySet()) {
+                Path tmp = Files.createTempFile(dir, "avatar-", ".tmp");
+                try {
+                    Files.write(tmp, e.getValue());
+                    Path target = dir.resolve(e.getKey().fileName(baseName));
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                    moved.add(target);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path path : moved) {
+                Files.deleteIfExists(path);
+            }
+            throw e;
+        }
+    }
+
+    // 형식은 맞지만 손상되었거나 너무 큰 이미지
+    private static Map<AvatarSize, byte[]> decode(Path upload) {
+        try {
+            return ImageResizer.resizeAvatar(upload.toFile());
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("이미지를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void copyBounded(MultipartFile file, Path target) throws IOException {
+        try (InputStream in = file.getInputStream();
+             OutputStream out = Files.newOutputStream(target)) {
+            byte[] header = in.readNBytes(ImageFormat.HEADER_BYTES);
+            if (ImageFormat.detect(header).isEmpty()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (JPEG, PNG, GIF, BMP)");
+            }
+            out.write(header);
+
+            long total = header.length;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                total += n;
+                if (total > maxBytes) {
+                    throw tooLarge();
+                }
+                out.write(buffer, 0, n);
+            }
+        }
+    }
+
+    private IllegalArgumentException tooLarge() {
+        return new IllegalArgumentException("프로필 이미지는 " + (maxBytes / (1024 * 1024)) + "MB 이하만 업로드할 수 있습니다.");
+    }
+}
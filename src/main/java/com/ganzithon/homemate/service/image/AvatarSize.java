@@ -0,0 +1,53 @@
+package com.ganzithon.homemate.service.image;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+// 프로필 이미지(정사각형) 저장 크기
+// - 저장 경로: profiles/{base}-{px}.jpg, DB 에는 가장 큰 크기 경로만 기록
+// - 이 규칙 이전에 올린 원본 경로는 모든 크기에서 원본 그대로 사용
+public enum AvatarSize {
+    SMALL("small", 96),
+    LARGE("large", 320);
+
+    private final String param;
+    private final int px;
+
+    AvatarSize(String param, int px) {
+        this.param = param;
+        this.px = px;
+    }
+
+    public int px() {
+        return px;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public String fileName(String baseName) {
+        return baseName + "-" + px + ".jpg";
+    }
+
+    // DB 에 저장된 (가장 큰 크기) 경로 → 이 크기의 경로
+    public String resolve(String storedPath) {
+        String largestSuffix = "-" + largest().px + ".jpg";
+        if (!storedPath.endsWith(largestSuffix)) {
+            return storedPath;
+        }
+        return storedPath.substring(0, storedPath.length() - largestSuffix.length()) + "-" + px + ".jpg";
+    }
+
+    public static AvatarSize largest() {
+        return Arrays.stream(values()).max(Comparator.comparingInt(AvatarSize::px)).orElseThrow();
+    }
+
+    // 요청 파라미터 (없거나 모르는 값이면 가장 큰 크기)
+    public static AvatarSize fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(size -> size.param.equalsIgnoreCase(param))
+                .findFirst()
+                .orElse(largest());
+    }
+}
@@ -0,0 +1,34 @@
+package com.ganzithon.homemate.service.image;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+// 파일 앞부분(magic bytes) 으로 판별한 실제 이미지 형식
+// - 확장자/Content-Type 은 클라이언트가 정하므로 믿지 않음
+// - ImageIO 로 디코딩 가능한 형식만
+public enum ImageFormat {
+    JPEG(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    PNG(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}),
+    GIF(new byte[]{'G', 'I', 'F', '8'}),
+    BMP(new byte[]{'B', 'M'});
+
+    // 판별에 필요한 최대 바이트 수
+    public static final int HEADER_BYTES = 8;
+
+    private final byte[] magic;
+
+    ImageFormat(byte[] magic) {
+        this.magic = magic;
+    }
+
+    public static Optional<ImageFormat> detect(byte[] header) {
+        return Arrays.stream(values())
+                .filter(format -> format.matches(header))
+                .findFirst();
+    }
+
+    private boolean matches(byte[] header) {
+        return header.length >= magic.length
+                && Arrays.equals(header, 0, magic.length, magic, 0, magic.length);
+    }
+}
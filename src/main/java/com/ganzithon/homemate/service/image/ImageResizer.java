@@ -0,0 +1,192 @@
+package com.ganzithon.homemate.service.image;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifIFD0Directory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// ========================================
+// 이미지 → 변환본 JPEG
+// - 픽셀만 다시 인코딩하므로 EXIF/GPS 등 메타데이터는 남지 않음
+//   (대신 EXIF 회전 값은 미리 픽셀에 반영)
+// - 큰 원본은 디코딩 단계에서 서브샘플링해서 메모리 사용을 줄임
+// - 프로필 이미지는 가운데를 정사각형으로 잘라 AvatarSize 별로 저장
+// ========================================
+public final class ImageResizer {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    // 디코딩 전에 거절할 픽셀 수 (압축률이 큰 거대 이미지 방지)
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    private ImageResizer() {
+    }
+
+    public static Map<ImageVariant, byte[]> resize(byte[] original) throws IOException {
+        BufferedImage image = orient(decode(new ByteArrayInputStream(original), ImageVariant.MEDIUM.maxSide(), false),
+                readOrientation(new ByteArrayInputStream(original)));
+
+        Map<ImageVariant, byte[]> result = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            result.put(variant, encodeJpeg(scaleDown(image, variant.maxSide())));
+        }
+        return result;
+    }
+
+    // 파일에서 바로 읽어 정사각형 아바타 JPEG 생성 (원본 전체를 메모리에 올리지 않음)
+    public static Map<AvatarSize, byte[]> resizeAvatar(File original) throws IOException {
+        int largest = AvatarSize.largest().px();
+        BufferedImage image = cropSquare(orient(decode(original, largest, true), readOrientation(original)));
+
+        Map<AvatarSize, byte[]> result = new EnumMap<>(AvatarSize.class);
+        for (AvatarSize size : AvatarSize.values()) {
+            result.put(size, encodeJpeg(scaleDown(image, size.px())));
+        }
+        return result;
+    }
+
+    // 긴 변이 targetSide 의 2배 이상이면 그만큼 건너뛰며 읽음
+    // (square: 정사각형으로 잘라낼 이미지라 짧은 변 기준)
+    private static BufferedImage decode(Object source, int targetSide, boolean square) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source)) {
+            if (in == null) {
+                throw new IOException("이미지를 읽을 수 없습니다.");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    throw new IOException("이미지 해상도가 너무 큽니다.");
+                }
+                int side = square ? Math.min(width, height) : Math.max(width, height);
+                int step = Math.max(1, side / (targetSide * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static int readOrientation(Object source) {
+        try {
+            Metadata metadata = source instanceof File file
+                    ? ImageMetadataReader.readMetadata(file)
+                    : ImageMetadataReader.readMetadata((InputStream) source);
+            ExifIFD0Directory exif = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+            if (exif != null && exif.containsTag(ExifIFD0Directory.TAG_ORIENTATION)) {
+                return exif.getInt(ExifIFD0Directory.TAG_ORIENTATION);
+            }
+        } catch (Exception ignored) {
+            // 메타데이터가 없거나 읽을 수 없으면 회전 없음
+        }
+        return 1;
+    }
+
+    // EXIF Orientation(1~8) 을 픽셀에 반영, 투명 배경은 흰색으로
+    private static BufferedImage orient(BufferedImage src, int orientation) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        boolean swap = orientation >= 5 && orientation <= 8;
+
+        AffineTransform t = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { t.translate(w, 0); t.scale(-1, 1); }
+            case 3 -> { t.translate(w, h); t.rotate(Math.PI); }
+            case 4 -> { t.translate(0, h); t.scale(1, -1); }
+            case 5 -> { t.scale(1, -1); t.rotate(-Math.PI / 2); }
+            case 6 -> { t.translate(h, 0); t.rotate(Math.PI / 2); }
+            case 7 -> { t.translate(h, w); t.scale(1, -1); t.rotate(Math.PI / 2); }
+            case 8 -> { t.translate(0, w); t.rotate(-Math.PI / 2); }
+            default -> { }
+        }
+
+        BufferedImage dst = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, dst.getWidth(), dst.getHeight());
+            g.drawImage(src, t, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+
+    // 가운데 기준 정사각형
+    private static BufferedImage cropSquare(BufferedImage src) {
+        int side = Math.min(src.getWidth(), src.getHeight());
+        return src.getSubimage((src.getWidth() - side) / 2, (src.getHeight() - side) / 2, side, side);
+    }
+
+    // 반씩 줄여가다가 마지막에 목표 크기로 (한 번에 크게 줄이면 계단 현상)
+    private static BufferedImage scaleDown(BufferedImage src, int maxSide) {
+        BufferedImage current = src;
+        int w = src.getWidth();
+        int h = src.getHeight();
+        double ratio = Math.min(1.0, (double) maxSide / Math.max(w, h));
+        int targetW = Math.max(1, (int) Math.round(w * ratio));
+        int targetH = Math.max(1, (int) Math.round(h * ratio));
+
+        while (w != targetW || h != targetH) {
+            w = (w / 2 >= targetW) ? w / 2 : targetW;
+            h = (h / 2 >= targetH) ? h / 2 : targetH;
+
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,23 @@
+package com.ganzithon.homemate.service.image;
+
+// 업로드 이미지 변환본 (긴 변 기준 최대 크기)
+public enum ImageVariant {
+    THUMBNAIL("thumb", 320),
+    MEDIUM("medium", 1080);
+
+    private final String suffix;
+    private final int maxSide;
+
+    ImageVariant(String suffix, int maxSide) {
+        this.suffix = suffix;
+        this.maxSide = maxSide;
+    }
+
+    public String suffix() {
+        return suffix;
+    }
+
+    public int maxSide() {
+        return maxSide;
+    }
+}
@@ -0,0 +1,131 @@
+package com.ganzithon.homemate.service.image;
+
+import com.ganzithon.homemate.event.PostChangedEvent;
+import com.ganzithon.homemate.repository.Post.PostImageRepository;
+import com.ganzithon.homemate.repository.Post.PostImageRepository.PendingImage;
+import com.ganzithon.homemate.service.storage.ImageStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// ========================================
+// 게시글 이미지 변환본(썸네일/중간 크기) 비동기 생성
+// - 업로드 요청은 원본만 저장하고 바로 응답, 변환은 커밋 이후 작업 풀에서
+// - 작업 풀/대기열 크기는 고정 → 업로드가 몰려도 CPU·메모리 사용량이 묶임
+// - 대기열이 가득 차면 건너뜀 (응답은 원본 URL 로 대체, 다음 수정 때 다시 시도)
+// ========================================
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final PostImageRepository postImageRepository;
+    private final ImageStorage imageStorage;
+    private final TransactionTemplate readOnlyTx;
+    private final TransactionTemplate tx;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantService(
+            PostImageRepository postImageRepository,
+            ImageStorage imageStorage,
+            PlatformTransactionManager transactionManager,
+            @Value("${homemate.image.workers:2}") int workers,
+            @Value("${homemate.image.queue-capacity:200}") int queueCapacity
+    ) {
+        this.postImageRepository = postImageRepository;
+        this.imageStorage = imageStorage;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-variant-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 생성/수정 커밋 후 아직 변환본이 없는 이미지를 작업 풀에 넣음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        List<PendingImage> pending = readOnlyTx.execute(
+                status -> postImageRepository.findPendingVariants(event.postId())
+        );
+        if (pending == null) {
+            return;
+        }
+        for (PendingImage image : pending) {
+            submit(image.getId(), image.getUrl());
+        }
+    }
+
+    private void submit(Long imageId, String url) {
+        try {
+            executor.execute(() -> generate(imageId, url));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변환 대기열이 가득 차 건너뜀: imageId={}", imageId);
+        }
+    }
+
+    // 어느 단계에서 실패해도 원본은 유지, 이미 저장한 변환본은 지움 (작업 스레드로 예외를 넘기지 않음)
+    void generate(Long imageId, String url) {
+        List<String> written = new ArrayList<>(2);
+        try {
+            Map<ImageVariant, byte[]> variants = ImageResizer.resize(imageStorage.readImage(url));
+
+            String thumbnailUrl = imageStorage.saveVariant(url, ImageVariant.THUMBNAIL.suffix(),
+                    variants.get(ImageVariant.THUMBNAIL));
+            written.add(thumbnailUrl);
+            String mediumUrl = imageStorage.saveVariant(url, ImageVariant.MEDIUM.suffix(),
+                    variants.get(ImageVariant.MEDIUM));
+            written.add(mediumUrl);
+
+            // 변환하는 사이 이미지가 교체/삭제되었으면 만든 파일도 정리
+            Integer updated = tx.execute(
+                    status -> postImageRepository.updateVariants(imageId, url, thumbnailUrl, mediumUrl)
+            );
+            if (updated == null || updated == 0) {
+                deleteVariants(written);
+            }
+        } catch (Exception e) {
+            log.warn("이미지 변환 실패 (원본 유지): imageId={}, url={}", imageId, url, e);
+            deleteVariants(written);
+        }
+    }
+
+    private void deleteVariants(List<String> urls) {
+        for (String variantUrl : urls) {
+            try {
+                imageStorage.deleteVariant(variantUrl);
+            } catch (Exception e) {
+                log.warn("이미지 변환본 삭제 실패: url={}", variantUrl, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
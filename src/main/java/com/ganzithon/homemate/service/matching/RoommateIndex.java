@@ -0,0 +1,251 @@
+package com.ganzithon.homemate.service.matching;
+
+import com.ganzithon.homemate.service.region.RegionDirectory.Area;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// ========================================
+// 룸메이트 매칭 후보 인덱스 (메모리)
+// - 후보(사용자 / ROOMMATE 글)를 시도 → 입주 희망 월 버킷에 보관
+//   · 조회 시 내 시도 버킷에서 입주일 ±window 에 걸리는 월만 읽음 (전체 사용자 스캔 없음)
+//   · 입주 희망일이 없는 후보는 시도별 undated 버킷
+// - 글의 입주 희망일은 작성자 프로필 값을 따름 (글에는 입주일이 없음)
+// - 점수 = AREA_WEIGHT · 지역 겹침(시군구 1, 시도 0.5) + DATE_WEIGHT · (1 - 날짜 차이 / window)
+// - 갱신은 인덱스 단위 synchronized, 조회는 잠금 없이 동시 컬렉션을 읽음
+// ========================================
+public class RoommateIndex {
+
+    public static final double AREA_WEIGHT = 0.6;
+    public static final double DATE_WEIGHT = 0.4;
+
+    // 점수 내림차순, 같으면 최신 id 먼저
+    private static final Comparator<Match> BEST_FIRST = Comparator
+            .comparingDouble(Match::score)
+            .thenComparingLong(Match::id)
+            .reversed();
+
+    private final long windowDays;
+    private final long windowMonths;
+
+    // 작성자 입주 희망일 (글 버킷 배치용, 희망 지역이 없는 사용자 포함)
+    private final Map<Long, LocalDate> moveIns = new ConcurrentHashMap<>();
+    private final Map<Long, Candidate> users = new ConcurrentHashMap<>();
+    private final Map<Long, Candidate> posts = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> postsByWriter = new ConcurrentHashMap<>();
+
+    private final Buckets userBuckets = new Buckets();
+    private final Buckets postBuckets = new Buckets();
+
+    public RoommateIndex(long windowDays) {
+        this.windowDays = windowDays;
+        // 월 경계에 걸치는 날짜까지 포함되도록 한 달 여유
+        this.windowMonths = windowDays / 28 + 1;
+    }
+
+    // ======================
+    // 갱신
+    // ======================
+
+    // 희망 지역/입주일 변경 (희망 지역이 없으면 사용자 후보에서 빠짐)
+    public synchronized void putUser(Long userId, Area area, LocalDate moveIn) {
+        Candidate old = users.remove(userId);
+        if (old != null) {
+            userBuckets.remove(old);
+        }
+        if (moveIn == null) {
+            moveIns.remove(userId);
+        } else {
+            moveIns.put(userId, moveIn);
+        }
+        if (!area.isEmpty()) {
+            Candidate candidate = new Candidate(userId, userId, area, moveIn, null);
+            users.put(userId, candidate);
+            userBuckets.add(candidate);
+        }
+        // 작성자 입주일이 바뀌면 글도 다른 월 버킷으로
+        for (Long postId : postsByWriter.getOrDefault(userId, Set.of())) {
+            Candidate post = posts.get(postId);
+            if (post != null) {
+                indexPost(new Candidate(post.id(), post.ownerId(), post.area(), moveIn, post.createdAt()));
+            }
+        }
+    }
+
+    public synchronized void removeUser(Long userId) {
+        putUser(userId, Area.EMPTY, null);
+    }
+
+    public synchronized void putPost(Long postId, Long writerId, Area area, Instant createdAt) {
+        removePost(postId);
+        if (area.isEmpty()) {
+            return;
+        }
+        indexPost(new Candidate(postId, writerId, area, moveIns.get(writerId), createdAt));
+        postsByWriter.computeIfAbsent(writerId, id -> ConcurrentHashMap.newKeySet()).add(postId);
+    }
+
+    public synchronized void removePost(Long postId) {
+        Candidate old = posts.remove(postId);
+        if (old == null) {
+            return;
+        }
+        postBuckets.remove(old);
+        postsByWriter.computeIfPresent(old.ownerId(), (id, ids) -> {
+            ids.remove(postId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private void indexPost(Candidate post) {
+        Candidate old = posts.put(post.id(), post);
+        if (old != null) {
+            postBuckets.remove(old);
+        }
+        postBuckets.add(post);
+    }
+
+    // ======================
+    // 조회
+    // ======================
+
+    // 나와 맞는 사용자 (나 제외)
+    public List<Match> matchUsers(Long userId, int limit) {
+        return match(users.get(userId), userBuckets, users, limit);
+    }
+
+    // 나와 맞는 ROOMMATE 글 (내 글 제외)
+    public List<Match> matchPosts(Long userId, int limit) {
+        return match(users.get(userId), postBuckets, posts, limit);
+    }
+
+    public int userCount() {
+        return users.size();
+    }
+
+    public int postCount() {
+        return posts.size();
+    }
+
+    private List<Match> match(Candidate me, Buckets buckets, Map<Long, Candidate> source, int limit) {
+        if (me == null) {
+            return List.of();
+        }
+        Set<Long> ids = new HashSet<>();
+        for (String sidoCode : me.area().sidoCodes()) {
+            buckets.collect(sidoCode, me.moveIn(), windowMonths, ids);
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Long id : ids) {
+            Candidate other = source.get(id);
+            if (other == null || other.ownerId().equals(me.ownerId())) {
+                continue;
+            }
+            double score = score(me, other);
+            if (score > 0) {
+                matches.add(new Match(id, score));
+            }
+        }
+        matches.sort(BEST_FIRST);
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    // 날짜가 둘 다 있는데 window 밖이면 0 (매칭 제외)
+    double score(Candidate me, Candidate other) {
+        double area = me.area().overlap(other.area());
+        if (area == 0) {
+            return 0;
+        }
+        double date = 0;
+        if (me.moveIn() != null && other.moveIn() != null) {
+            long days = Math.abs(ChronoUnit.DAYS.between(me.moveIn(), other.moveIn()));
+            if (days > windowDays) {
+                return 0;
+            }
+            date = 1.0 - (double) days / windowDays;
+        }
+        return AREA_WEIGHT * area + DATE_WEIGHT * date;
+    }
+
+    public record Match(Long id, double score) {
+    }
+
+    record Candidate(Long id, Long ownerId, Area area, LocalDate moveIn, Instant createdAt) {
+    }
+
+    // 시도 → (입주 희망 월 → id) + 입주일 없는 id
+    private static final class Buckets {
+
+        private final Map<String, Bucket> bySido = new ConcurrentHashMap<>();
+
+        void add(Candidate candidate) {
+            for (String sidoCode : candidate.area().sidoCodes()) {
+                bySido.computeIfAbsent(sidoCode, code -> new Bucket()).add(candidate);
+            }
+        }
+
+        void remove(Candidate candidate) {
+            for (String sidoCode : candidate.area().sidoCodes()) {
+                Bucket bucket = bySido.get(sidoCode);
+                if (bucket != null) {
+                    bucket.remove(candidate);
+                }
+            }
+        }
+
+        // 내 입주일이 없으면 시도 전체
+        void collect(String sidoCode, LocalDate moveIn, long windowMonths, Set<Long> into) {
+            Bucket bucket = bySido.get(sidoCode);
+            if (bucket == null) {
+                return;
+            }
+            into.addAll(bucket.undated);
+            if (moveIn == null) {
+                bucket.byMonth.values().forEach(into::addAll);
+                return;
+            }
+            YearMonth month = YearMonth.from(moveIn);
+            bucket.byMonth
+                    .subMap(month.minusMonths(windowMonths), true, month.plusMonths(windowMonths), true)
+                    .values()
+                    .forEach(into::addAll);
+        }
+    }
+
+    private static final class Bucket {
+
+        private final ConcurrentSkipListMap<YearMonth, Set<Long>> byMonth = new ConcurrentSkipListMap<>();
+        private final Set<Long> undated = ConcurrentHashMap.newKeySet();
+
+        void add(Candidate candidate) {
+            if (candidate.moveIn() == null) {
+                undated.add(candidate.id());
+            } else {
+                byMonth.computeIfAbsent(YearMonth.from(candidate.moveIn()), m -> ConcurrentHashMap.newKeySet())
+                        .add(candidate.id());
+            }
+        }
+
+        void remove(Candidate candidate) {
+            if (candidate.moveIn() == null) {
+                undated.remove(candidate.id());
+                return;
+            }
+            byMonth.computeIfPresent(YearMonth.from(candidate.moveIn()), (m, ids) -> {
+                ids.remove(candidate.id());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+}
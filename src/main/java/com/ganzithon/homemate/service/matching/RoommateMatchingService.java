@@ -0,0 +1,171 @@
+package com.ganzithon.homemate.service.matching;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PostListItemResponse;
+import com.ganzithon.homemate.dto.Profile.ProfileResponse;
+import com.ganzithon.homemate.dto.Profile.RoommateMatchResponse;
+import com.ganzithon.homemate.dto.Profile.RoommateMatchResponse.PostMatch;
+import com.ganzithon.homemate.dto.Profile.RoommateMatchResponse.UserMatch;
+import com.ganzithon.homemate.event.PostChangedEvent;
+import com.ganzithon.homemate.event.ProfileChangedEvent;
+import com.ganzithon.homemate.repository.Post.PostRepository;
+import com.ganzithon.homemate.repository.UserRepository;
+import com.ganzithon.homemate.service.PostService;
+import com.ganzithon.homemate.service.ProfileService;
+import com.ganzithon.homemate.service.region.RegionDirectory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// ========================================
+// 룸메이트 매칭 (희망 지역 + 입주 희망일)
+// - 후보는 RoommateIndex 메모리 인덱스에서 바로 계산 (요청마다 사용자/글을 스캔하지 않음)
+// - 시작 시 DB 에서 적재, 이후 커밋된 프로필/게시글 이벤트로 갱신
+//   · 이벤트는 이 인스턴스에서 난 것만 들어오므로, 주기적으로 DB 에서 새 인덱스를
+//     만들어 통째로 교체 (다른 인스턴스의 변경, 오래된 글 정리도 이때 반영)
+// - 자유 입력 희망 지역은 RegionDirectory 로 시도/시군구 코드로 바꿔서 게시글 지역과 비교
+// ========================================
+@Slf4j
+@Service
+public class RoommateMatchingService {
+
+    private static final int MAX_SIZE = 50;
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final PostService postService;
+    private final ProfileService profileService;
+    private final TransactionTemplate readOnlyTx;
+
+    private final long dateWindowDays;
+    private final Duration postMaxAge;
+
+    // 다시 적재한 인덱스로 통째로 교체
+    private volatile RoommateIndex index;
+
+    public RoommateMatchingService(
+            UserRepository userRepository,
+            PostRepository postRepository,
+            PostService postService,
+            ProfileService profileService,
+            PlatformTransactionManager transactionManager,
+            @Value("${homemate.matching.date-window-days:60}") long dateWindowDays,
+            @Value("${homemate.matching.post-max-age-days:90}") long postMaxAgeDays
+    ) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.postService = postService;
+        this.profileService = profileService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.dateWindowDays = dateWindowDays;
+        this.postMaxAge = Duration.ofDays(postMaxAgeDays);
+        this.index = new RoommateIndex(dateWindowDays);
+    }
+
+    // 희망 지역이 없으면 빈 결과
+    public RoommateMatchResponse match(Long userId, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+        int limit = Math.min(size, MAX_SIZE);
+
+        // 프로필은 한 번에 (캐시에 없는 것만 IN 조회 하나로), 그 사이 탈퇴한 사용자는 제외
+        List<RoommateIndex.Match> userMatches = index.matchUsers(userId, limit);
+        Map<Long, ProfileResponse> profiles = profileService.getProfiles(
+                userMatches.stream().map(RoommateIndex.Match::id).toList());
+        List<UserMatch> users = userMatches.stream()
+                .filter(m -> profiles.containsKey(m.id()))
+                .map(m -> new UserMatch(profiles.get(m.id()), m.score()))
+                .toList();
+
+        List<RoommateIndex.Match> postMatches = index.matchPosts(userId, limit);
+        Map<Long, PostListItemResponse> items = postService
+                .getListItems(PostCategory.ROOMMATE, postMatches.stream().map(RoommateIndex.Match::id).toList())
+                .stream()
+                .collect(Collectors.toMap(PostListItemResponse::getId, Function.identity()));
+        List<PostMatch> posts = postMatches.stream()
+                .filter(m -> items.containsKey(m.id()))
+                .map(m -> new PostMatch(items.get(m.id()), m.score()))
+                .toList();
+
+        return new RoommateMatchResponse(users, posts);
+    }
+
+    // ======================
+    // 이벤트
+    // ======================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        userRepository.findMatchingRowById(event.userId()).ifPresentOrElse(
+                row -> indexUser(index, row),
+                () -> index.removeUser(event.userId())
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        // 작성/수정이면 현재 지역으로 갱신, 삭제됐거나 다른 게시판으로 옮겼으면 제거
+        postRepository.findMatchingRowById(event.postId())
+                .filter(row -> row.getCategory() == PostCategory.ROOMMATE)
+                .filter(row -> row.getCreatedAt().isAfter(cutoff()))
+                .ifPresentOrElse(
+                        row -> indexPost(index, row),
+                        () -> index.removePost(event.postId())
+                );
+    }
+
+    // ======================
+    // 초기화 / 주기적 재적재
+    // ======================
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+        log.info("룸메이트 매칭 인덱스 초기화 완료 (사용자 {}명, 글 {}건)", index.userCount(), index.postCount());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${homemate.matching.rebuild-interval-ms:300000}",
+            initialDelayString = "${homemate.matching.rebuild-interval-ms:300000}"
+    )
+    public void rebuild() {
+        // 글은 작성자 입주일을 따르므로 사용자 먼저
+        RoommateIndex rebuilt = new RoommateIndex(dateWindowDays);
+        readOnlyTx.executeWithoutResult(status -> {
+            userRepository.findMatchingRows().forEach(row -> indexUser(rebuilt, row));
+            postRepository.findMatchingRowsSince(PostCategory.ROOMMATE, cutoff())
+                    .forEach(row -> indexPost(rebuilt, row));
+        });
+        index = rebuilt;
+    }
+
+    private static void indexUser(RoommateIndex index, UserRepository.MatchingRow row) {
+        index.putUser(row.getId(), RegionDirectory.parse(row.getDesiredArea()), row.getDesiredMoveInDate());
+    }
+
+    private static void indexPost(RoommateIndex index, PostRepository.MatchingRow row) {
+        index.putPost(
+                row.getId(),
+                row.getUserId(),
+                RegionDirectory.of(row.getSidoCode(), row.getSigunguCode()),
+                row.getCreatedAt()
+        );
+    }
+
+    private Instant cutoff() {
+        return Instant.now().minus(postMaxAge);
+    }
+}
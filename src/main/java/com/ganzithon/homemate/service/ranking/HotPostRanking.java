@@ -0,0 +1,233 @@
+package com.ganzithon.homemate.service.ranking;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// ========================================
+// 인기글 순위 (메모리)
+// - 점수 = Σ weight · e^((t - EPOCH) / τ),  τ = 반감기 / ln 2
+//   · 모든 글이 같은 비율로 감쇠하므로 현재 시각 없이 점수끼리 비교 가능
+//   · 값이 계속 커지므로 log 로 보관하고, 이벤트마다 log-sum-exp 로 더함
+// - 게시판별, (게시판, 시도)별 정렬 인덱스를 이벤트마다 갱신 (O(log n))
+// - 글 하나의 갱신은 해당 Entry 에 대해 synchronized
+// ========================================
+public class HotPostRanking {
+
+    // 이벤트 가중치
+    public static final double POST_WEIGHT = 10;
+    public static final double VIEW_WEIGHT = 1;
+    public static final double LIKE_WEIGHT = 4;
+    public static final double COMMENT_WEIGHT = 3;
+
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    // 점수 내림차순, 같으면 최신 id 먼저
+    private static final Comparator<Rank> HIGHEST_FIRST = Comparator
+            .comparingDouble(Rank::score)
+            .thenComparingLong(Rank::postId)
+            .reversed();
+
+    private final double tauSeconds;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Board, ConcurrentSkipListSet<Rank>> boards = new ConcurrentHashMap<>();
+
+    public HotPostRanking(Duration halfLife) {
+        this.tauSeconds = halfLife.toSeconds() / Math.log(2);
+    }
+
+    // 새 글이면 등록(기본 가중치), 이미 있으면 게시판/지역만 갱신
+    public void track(Long postId, PostCategory category, String sidoCode, Instant createdAt) {
+        Entry entry = entries.computeIfAbsent(postId, id -> new Entry(id, createdAt));
+        synchronized (entry) {
+            if (entry.removed) {
+                return;
+            }
+            boolean isNew = (entry.category == null);
+            if (!isNew && entry.category == category && Objects.equals(entry.sidoCode, sidoCode)) {
+                return;
+            }
+            unindex(entry);
+            entry.category = category;
+            entry.sidoCode = sidoCode;
+            if (isNew) {
+                entry.logScore = logOf(POST_WEIGHT, createdAt);
+            }
+            index(entry);
+        }
+    }
+
+    // DB 누적값으로 다시 계산할 때 사용 (모두 작성 시각에 발생한 것으로 근사)
+    public void seedCounts(Long postId, long views, long likes, long comments) {
+        Entry entry = entries.get(postId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            entry.likeCount = likes;
+            double weight = views * VIEW_WEIGHT + likes * LIKE_WEIGHT + comments * COMMENT_WEIGHT;
+            apply(entry, weight, entry.createdAt);
+        }
+    }
+
+    // weight 가 음수면 점수에서 뺌 (댓글 삭제 등)
+    public void addWeight(Long postId, double weight, Instant at) {
+        Entry entry = entries.get(postId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            apply(entry, weight, at);
+        }
+    }
+
+    // 좋아요는 전체 수를 받아 이전 값과의 차이만큼 반영 (중복 클릭에도 안전)
+    public void updateLikeCount(Long postId, long likeCount, Instant at) {
+        Entry entry = entries.get(postId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            long delta = likeCount - entry.likeCount;
+            entry.likeCount = likeCount;
+            apply(entry, delta * LIKE_WEIGHT, at);
+        }
+    }
+
+    public void remove(Long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            entry.removed = true;
+            unindex(entry);
+        }
+    }
+
+    // sidoCode == null 이면 게시판 전체
+    public List<Long> top(PostCategory category, String sidoCode, int limit) {
+        ConcurrentSkipListSet<Rank> ranks = boards.get(new Board(category, sidoCode));
+        if (ranks == null) {
+            return List.of();
+        }
+        // 재정렬 중에는 같은 글이 잠깐 두 번 보일 수 있어 중복 제거
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Rank rank : ranks) {
+            ids.add(rank.postId());
+            if (ids.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // ======================
+    // 내부
+    // ======================
+    private void apply(Entry entry, double weight, Instant at) {
+        if (entry.removed || entry.category == null || weight == 0) {
+            return;
+        }
+        double x = logOf(Math.abs(weight), at);
+        double updated = (weight > 0)
+                ? logAddExp(entry.logScore, x)
+                : logSubExp(entry.logScore, x);
+
+        // 새 순위를 먼저 넣고 이전 순위를 지움 (조회 중 글이 사라져 보이지 않도록)
+        Rank old = entry.rank;
+        entry.logScore = updated;
+        index(entry);
+        if (old != null && !old.equals(entry.rank)) {
+            removeRank(entry, old);
+        }
+    }
+
+    private double logOf(double weight, Instant at) {
+        double elapsed = Duration.between(EPOCH, at).toMillis() / 1000.0;
+        return Math.log(weight) + elapsed / tauSeconds;
+    }
+
+    private static double logAddExp(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY) return b;
+        if (b == Double.NEGATIVE_INFINITY) return a;
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    // log(e^a - e^b), 0 이하가 되면 -∞
+    private static double logSubExp(double a, double b) {
+        if (b >= a) return Double.NEGATIVE_INFINITY;
+        return a + Math.log1p(-Math.exp(b - a));
+    }
+
+    private void index(Entry entry) {
+        entry.rank = new Rank(entry.logScore, entry.postId);
+        for (Board board : boardsOf(entry)) {
+            boards.computeIfAbsent(board, b -> new ConcurrentSkipListSet<>(HIGHEST_FIRST)).add(entry.rank);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        if (entry.rank != null) {
+            removeRank(entry, entry.rank);
+            entry.rank = null;
+        }
+    }
+
+    private void removeRank(Entry entry, Rank rank) {
+        for (Board board : boardsOf(entry)) {
+            ConcurrentSkipListSet<Rank> ranks = boards.get(board);
+            if (ranks != null) {
+                ranks.remove(rank);
+            }
+        }
+    }
+
+    private static List<Board> boardsOf(Entry entry) {
+        if (entry.category == null) {
+            return List.of();
+        }
+        if (entry.sidoCode == null) {
+            return List.of(new Board(entry.category, null));
+        }
+        return List.of(new Board(entry.category, null), new Board(entry.category, entry.sidoCode));
+    }
+
+    private record Board(PostCategory category, String sidoCode) {
+    }
+
+    private record Rank(double score, long postId) {
+    }
+
+    private static final class Entry {
+        final Long postId;
+        final Instant createdAt;
+        PostCategory category;
+        String sidoCode;
+        long likeCount;
+        double logScore = Double.NEGATIVE_INFINITY;
+        Rank rank;
+        boolean removed;
+
+        Entry(Long postId, Instant createdAt) {
+            this.postId = postId;
+            this.createdAt = createdAt;
+        }
+    }
+}
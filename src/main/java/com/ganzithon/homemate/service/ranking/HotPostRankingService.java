@@ -0,0 +1,159 @@
+package com.ganzithon.homemate.service.ranking;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.event.PostChangedEvent;
+import com.ganzithon.homemate.event.PostEngagementEvent;
+import com.ganzithon.homemate.repository.CommentRepository;
+import com.ganzithon.homemate.repository.Post.PostLikeRepository;
+import com.ganzithon.homemate.repository.Post.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// ========================================
+// 인기글 (조회/좋아요/댓글 + 시간 감쇠)
+// - 순위는 HotPostRanking 메모리 구조에서 바로 응답 (요청마다 SQL 로 계산하지 않음)
+// - 커밋된 이벤트만 반영 (PostChangedEvent, PostEngagementEvent)
+//   · 이벤트는 이 인스턴스에서 난 것만 들어오므로, 주기적으로 DB 누적값으로
+//     새로 계산해 통째로 교체 (인스턴스 간 순위 차이는 rebuild 주기 이내)
+// - max-age 보다 오래된 글은 순위에서 제외 (다시 계산할 때 빠짐)
+// ========================================
+@Slf4j
+@Service
+public class HotPostRankingService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    private final Duration halfLife;
+    private final Duration maxAge;
+
+    // 다시 계산한 순위로 통째로 교체
+    private volatile HotPostRanking ranking;
+
+    public HotPostRankingService(
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            PostLikeRepository postLikeRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${homemate.hot.half-life-hours:12}") long halfLifeHours,
+            @Value("${homemate.hot.max-age-days:7}") long maxAgeDays
+    ) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.halfLife = Duration.ofHours(halfLifeHours);
+        this.maxAge = Duration.ofDays(maxAgeDays);
+        this.ranking = new HotPostRanking(halfLife);
+    }
+
+    // sidoCode 가 없으면 게시판 전체 순위
+    public List<Long> topPostIds(PostCategory category, String sidoCode, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+        String sido = StringUtils.hasText(sidoCode) ? sidoCode : null;
+        return ranking.top(category, sido, Math.min(size, MAX_SIZE));
+    }
+
+    // ======================
+    // 이벤트
+    // ======================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        // 작성/수정/이동이면 현재 게시판·지역으로 갱신, 삭제됐으면 제거
+        postRepository.findRankingRowById(event.postId()).ifPresentOrElse(
+                row -> {
+                    if (row.getCreatedAt().isAfter(cutoff())) {
+                        ranking.track(row.getId(), row.getCategory(), row.getSidoCode(), row.getCreatedAt());
+                    }
+                },
+                () -> ranking.remove(event.postId())
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(PostEngagementEvent event) {
+        Instant now = Instant.now();
+        switch (event.kind()) {
+            case VIEW -> ranking.addWeight(event.postId(), event.value() * HotPostRanking.VIEW_WEIGHT, now);
+            case COMMENT -> ranking.addWeight(event.postId(), event.value() * HotPostRanking.COMMENT_WEIGHT, now);
+            case LIKE_COUNT -> ranking.updateLikeCount(event.postId(), event.value(), now);
+        }
+    }
+
+    // ======================
+    // 초기화 / 주기적 재계산
+    // ======================
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+        log.info("인기글 순위 초기화 완료 ({}건)", ranking.size());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${homemate.hot.rebuild-interval-ms:300000}",
+            initialDelayString = "${homemate.hot.rebuild-interval-ms:300000}"
+    )
+    public void rebuild() {
+        ranking = readOnlyTx.execute(status -> rebuildFromDatabase());
+    }
+
+    // 최근 글만 게시판별로 읽어서 누적 조회/좋아요/댓글 수로 점수 계산
+    private HotPostRanking rebuildFromDatabase() {
+        HotPostRanking rebuilt = new HotPostRanking(halfLife);
+        Instant since = cutoff();
+        for (PostCategory category : PostCategory.values()) {
+            List<PostRepository.RankingRow> rows = postRepository.findRankingRowsSince(category, since);
+            if (rows.isEmpty()) {
+                continue;
+            }
+            List<Long> ids = rows.stream().map(PostRepository.RankingRow::getId).toList();
+
+            Map<Long, Long> likes = postLikeRepository.countGroupByPostId(category, ids).stream()
+                    .collect(Collectors.toMap(
+                            PostLikeRepository.PostLikeCount::getPostId,
+                            PostLikeRepository.PostLikeCount::getCount
+                    ));
+            Map<Long, Long> comments = commentRepository.countGroupByPostId(category, ids).stream()
+                    .collect(Collectors.toMap(
+                            CommentRepository.PostCommentCount::getPostId,
+                            CommentRepository.PostCommentCount::getCount
+                    ));
+
+            for (PostRepository.RankingRow row : rows) {
+                rebuilt.track(row.getId(), row.getCategory(), row.getSidoCode(), row.getCreatedAt());
+                rebuilt.seedCounts(
+                        row.getId(),
+                        row.getViewCount(),
+                        likes.getOrDefault(row.getId(), 0L),
+                        comments.getOrDefault(row.getId(), 0L)
+                );
+            }
+        }
+        return rebuilt;
+    }
+
+    private Instant cutoff() {
+        return Instant.now().minus(maxAge);
+    }
+}
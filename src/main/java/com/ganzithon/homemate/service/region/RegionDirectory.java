@@ -0,0 +1,211 @@
+package com.ganzithon.homemate.service.region;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// ========================================
+// 시도 / 시군구 코드 ↔ 이름
+// - 게시글은 코드(sidoCode, sigunguCode), 프로필 희망 지역은 자유 입력 문자열이라
+//   둘을 비교할 때 이 표로 이름을 코드로 바꿈
+// - 주거정보 수집 대상 지역 목록도 이 표를 그대로 사용 (주요 시군구만 포함)
+// ========================================
+public final class RegionDirectory {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s,/·()]+");
+
+    private static final List<Sido> SIDOS = List.of(
+            sido("11", "서울특별시", "서울",
+                    "110 종로구", "140 중구", "170 용산구", "200 성동구", "215 광진구", "230 동대문구",
+                    "260 중랑구", "290 성북구", "305 강북구", "320 도봉구", "350 노원구", "380 은평구",
+                    "410 서대문구", "440 마포구", "470 양천구", "500 강서구", "530 구로구", "545 금천구",
+                    "560 영등포구", "590 동작구", "620 관악구", "650 서초구", "680 강남구", "710 송파구",
+                    "740 강동구"),
+            sido("26", "부산광역시", "부산",
+                    "110 중구", "140 서구", "170 동구", "200 영도구", "230 부산진구", "260 동래구",
+                    "290 남구", "320 북구", "350 해운대구", "380 사하구", "410 금정구", "440 강서구",
+                    "470 연제구", "500 수영구", "530 사상구", "710 기장군"),
+            sido("27", "대구광역시", "대구",
+                    "110 중구", "140 동구", "170 서구", "200 남구", "230 북구", "260 수성구",
+                    "290 달서구", "710 달성군"),
+            sido("28", "인천광역시", "인천",
+                    "110 중구", "140 동구", "177 미추홀구", "185 연수구", "200 남동구", "237 부평구",
+                    "245 계양구", "260 서구", "710 강화군", "720 옹진군"),
+            sido("29", "광주광역시", "광주",
+                    "110 동구", "140 서구", "155 남구", "170 북구", "200 광산구"),
+            sido("30", "대전광역시", "대전",
+                    "110 동구", "140 중구", "170 서구", "200 유성구", "230 대덕구"),
+            sido("31", "울산광역시", "울산",
+                    "110 중구", "140 남구", "170 동구", "200 북구", "710 울주군"),
+            sido("36", "세종특별자치시", "세종",
+                    "110 세종시"),
+            sido("41", "경기도", "경기",
+                    "111 수원시", "113 성남시", "115 의정부시", "117 안양시", "119 부천시", "121 광명시",
+                    "123 평택시", "125 동두천시", "127 안산시", "129 고양시", "131 과천시", "133 구리시",
+                    "135 남양주시", "137 오산시", "139 시흥시", "141 군포시", "143 의왕시", "145 하남시",
+                    "147 용인시", "149 파주시", "151 이천시", "153 안성시", "155 김포시", "157 화성시",
+                    "159 광주시", "161 양주시", "163 포천시", "165 여주시"),
+            sido("42", "강원도", "강원",
+                    "110 춘천시", "130 원주시", "150 강릉시", "170 동해시", "190 태백시", "210 속초시",
+                    "230 삼척시"),
+            sido("43", "충청북도", "충북",
+                    "110 청주시", "130 충주시", "150 제천시", "720 보은군", "730 옥천군", "740 영동군",
+                    "745 증평군", "750 진천군", "760 괴산군", "770 음성군", "800 단양군"),
+            sido("44", "충청남도", "충남",
+                    "130 천안시", "133 공주시", "150 보령시", "180 아산시", "200 서산시", "210 논산시",
+                    "230 계룡시", "250 당진시"),
+            sido("45", "전라북도", "전북",
+                    "110 전주시", "130 군산시", "140 익산시", "180 정읍시", "190 남원시", "210 김제시"),
+            sido("46", "전라남도", "전남",
+                    "110 목포시", "130 여수시", "150 순천시", "170 나주시", "230 광양시"),
+            sido("47", "경상북도", "경북",
+                    "110 포항시", "130 경주시", "150 김천시", "170 안동시", "190 구미시", "210 영주시",
+                    "230 영천시", "250 상주시", "280 문경시", "290 경산시"),
+            sido("48", "경상남도", "경남",
+                    "120 창원시", "170 진주시", "220 통영시", "240 사천시", "250 김해시", "270 밀양시",
+                    "310 거제시", "330 양산시"),
+            sido("50", "제주특별자치도", "제주",
+                    "110 제주시", "130 서귀포시")
+    );
+
+    private static final Map<String, Sido> SIDO_BY_CODE = new HashMap<>();
+    private static final Map<String, Sido> SIDO_BY_NAME = new HashMap<>();
+    private static final Map<String, List<District>> DISTRICTS_BY_NAME = new HashMap<>();
+    private static final List<District> DISTRICTS = new ArrayList<>();
+
+    static {
+        for (Sido sido : SIDOS) {
+            SIDO_BY_CODE.put(sido.code(), sido);
+            SIDO_BY_NAME.put(sido.name(), sido);
+            SIDO_BY_NAME.put(sido.shortName(), sido);
+            for (District district : sido.districts()) {
+                DISTRICTS.add(district);
+                DISTRICTS_BY_NAME.computeIfAbsent(district.name(), n -> new ArrayList<>()).add(district);
+                // "마포구" → "마포" 처럼 행정 단위 없이 적은 경우 (시도 약칭과 겹치면 시도 우선)
+                String bare = district.name().substring(0, district.name().length() - 1);
+                if (bare.length() >= 2) {
+                    DISTRICTS_BY_NAME.computeIfAbsent(bare, n -> new ArrayList<>()).add(district);
+                }
+            }
+        }
+        // "서울시" 같은 표기 (경기 "광주시" 처럼 시군구 이름과 겹치면 시군구로 봄)
+        for (Sido sido : SIDOS) {
+            String alias = sido.shortName() + "시";
+            if (!DISTRICTS_BY_NAME.containsKey(alias)) {
+                SIDO_BY_NAME.putIfAbsent(alias, sido);
+            }
+        }
+    }
+
+    private RegionDirectory() {
+    }
+
+    public static List<District> districts() {
+        return Collections.unmodifiableList(DISTRICTS);
+    }
+
+    public static Optional<Sido> sido(String code) {
+        return Optional.ofNullable(SIDO_BY_CODE.get(code));
+    }
+
+    // ======================
+    // 자유 입력 지역 → 코드
+    // - "서울 마포구, 서대문구" → 시도 {11}, 시군구 {11-440, 11-410}
+    // - 시도 없이 "중구" 만 적으면 이름이 같은 모든 시도의 중구
+    // - 시도를 함께 적었으면 그 시도 안의 시군구만
+    // - 시군구를 적으면 그 시도도 포함
+    // ======================
+    public static Area parse(String text) {
+        if (text == null || text.isBlank()) {
+            return Area.EMPTY;
+        }
+        Set<String> sidoCodes = new LinkedHashSet<>();
+        List<List<District>> named = new ArrayList<>();
+
+        for (String token : SEPARATORS.split(text.trim())) {
+            Sido sido = SIDO_BY_NAME.get(token);
+            if (sido != null) {
+                sidoCodes.add(sido.code());
+                continue;
+            }
+            List<District> districts = DISTRICTS_BY_NAME.get(token);
+            if (districts != null) {
+                named.add(districts);
+            }
+        }
+
+        Set<String> districtKeys = new LinkedHashSet<>();
+        Set<String> mentioned = Set.copyOf(sidoCodes);
+        for (List<District> candidates : named) {
+            List<District> inMentioned = candidates.stream()
+                    .filter(d -> mentioned.contains(d.sidoCode()))
+                    .toList();
+            for (District district : inMentioned.isEmpty() ? candidates : inMentioned) {
+                districtKeys.add(district.key());
+                sidoCodes.add(district.sidoCode());
+            }
+        }
+        return new Area(Set.copyOf(sidoCodes), Set.copyOf(districtKeys));
+    }
+
+    // 게시글 지역 코드 → Area (표에 없는 시군구 코드여도 코드 그대로 사용)
+    public static Area of(String sidoCode, String sigunguCode) {
+        if (sidoCode == null || sidoCode.isBlank()) {
+            return Area.EMPTY;
+        }
+        Set<String> districtKeys = (sigunguCode == null || sigunguCode.isBlank())
+                ? Set.of()
+                : Set.of(District.key(sidoCode, sigunguCode));
+        return new Area(Set.of(sidoCode), districtKeys);
+    }
+
+    private static Sido sido(String code, String name, String shortName, String... districts) {
+        List<District> list = new ArrayList<>(districts.length);
+        for (String entry : districts) {
+            int space = entry.indexOf(' ');
+            list.add(new District(code, entry.substring(0, space), entry.substring(space + 1)));
+        }
+        return new Sido(code, name, shortName, List.copyOf(list));
+    }
+
+    public record Sido(String code, String name, String shortName, List<District> districts) {
+    }
+
+    public record District(String sidoCode, String sigunguCode, String name) {
+
+        public String key() {
+            return key(sidoCode, sigunguCode);
+        }
+
+        static String key(String sidoCode, String sigunguCode) {
+            return sidoCode + "-" + sigunguCode;
+        }
+    }
+
+    // 시도 코드 집합 + 시군구 키("시도-시군구") 집합
+    public record Area(Set<String> sidoCodes, Set<String> districtKeys) {
+
+        public static final Area EMPTY = new Area(Set.of(), Set.of());
+
+        public boolean isEmpty() {
+            return sidoCodes.isEmpty();
+        }
+
+        // 같은 시군구가 있으면 1, 같은 시도만 있으면 0.5, 아니면 0
+        public double overlap(Area other) {
+            if (!Collections.disjoint(districtKeys, other.districtKeys)) {
+                return 1.0;
+            }
+            if (!Collections.disjoint(sidoCodes, other.sidoCodes)) {
+                return 0.5;
+            }
+            return 0.0;
+        }
+    }
+}
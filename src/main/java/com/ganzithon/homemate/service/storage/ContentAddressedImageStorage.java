@@ -0,0 +1,275 @@
+package com.ganzithon.homemate.service.storage;
+
+import com.ganzithon.homemate.entity.ImageBlob;
+import com.ganzithon.homemate.repository.ImageBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// ========================================
+// 내용 주소(SHA-256) 이미지 저장소 (homemate.storage.type=content-addressed)
+// - 파일 키 = 내용의 SHA-256 → 같은 사진은 게시판/글이 달라도 파일 하나
+//   · /uploads/blob/{hash}.{ext}
+// - image_blob.ref_count 로 참조 수 관리, 삭제는 감소 커밋 → 0 이면 파일 삭제
+// - 업로드는 임시 파일로 한 번만 복사하면서 해시 계산 → 처음 보는 내용이면 그대로 이름 변경
+// - 변환본도 내용 기준이라 공유 ({hash}_thumb.jpg), blob 이 지워질 때 함께 삭제
+// - 같은 해시의 파일 생성/삭제는 image_blob 행 잠금으로 직렬화 (인스턴스 여러 대 + 공유 디스크)
+// ========================================
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "homemate.storage.type", havingValue = "content-addressed")
+public class ContentAddressedImageStorage implements ImageStorage {
+
+    static final String BLOB_DIR = "blob";
+
+    private static final Pattern EXTENSION = Pattern.compile("\\.[a-z0-9]{1,5}");
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final TransactionTemplate newTx;
+    private final Path uploadDir;
+    private final Path blobDir;
+
+    public ContentAddressedImageStorage(
+            ImageBlobRepository imageBlobRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${homemate.upload-dir}") String uploadDir
+    ) {
+        this.imageBlobRepository = imageBlobRepository;
+        // 커밋/롤백 콜백 안에서도 호출되므로 항상 별도 트랜잭션
+        this.newTx = new TransactionTemplate(transactionManager);
+        this.newTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.uploadDir = Paths.get(uploadDir);
+        this.blobDir = this.uploadDir.resolve(BLOB_DIR);
+    }
+
+    @Override
+    public String uploadRoommateImage(MultipartFile file) {
+        return store(file);
+    }
+
+    @Override
+    public String uploadFreeImage(MultipartFile file) {
+        return store(file);
+    }
+
+    @Override
+    public String uploadPolicyImage(MultipartFile file) {
+        return store(file);
+    }
+
+    @Override
+    public void deleteRoommateImage(String url) {
+        release(url);
+    }
+
+    @Override
+    public void deleteFreeImage(String url) {
+        release(url);
+    }
+
+    @Override
+    public void deletePolicyImage(String url) {
+        release(url);
+    }
+
+    // ======================
+    //  저장 (참조 +1)
+    // ======================
+    private String store(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(blobDir);
+            temp = Files.createTempFile(blobDir, "upload-", ".tmp");
+            String hash = copyHashing(file, temp);
+            String url = "/uploads/" + BLOB_DIR + "/" + hash + extension(file.getOriginalFilename());
+            try {
+                return register(hash, url, temp, file.getSize());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 내용을 먼저 등록함 → 그 행에 참조 +1
+                return register(hash, url, temp, file.getSize());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 저장 실패", e);
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    // 행 잠금 안에서 참조 +1 또는 새 blob 등록, 파일이 없으면 임시 파일을 제자리로 이동
+    private String register(String hash, String url, Path temp, long size) {
+        return newTx.execute(status -> {
+            Optional<ImageBlob> existing = imageBlobRepository.findForUpdate(hash);
+            if (existing.isPresent()) {
+                imageBlobRepository.increment(hash);
+                moveIfMissing(temp, toFilePath(existing.get().getUrl()));
+                return existing.get().getUrl();
+            }
+            moveIfMissing(temp, toFilePath(url));
+            imageBlobRepository.insertFirst(hash, url, size);
+            return url;
+        });
+    }
+
+    // ======================
+    //  삭제 (참조 -1, 커밋된 수가 0 이면 파일 삭제)
+    // ======================
+    private void release(String url) {
+        if (!StringUtils.hasText(url)) return;
+
+        String hash = hashOf(url);
+        if (hash == null) {
+            // 도입 이전에 올라간 파일 (roommate/free/policy)
+            deleteQuietly(toFilePath(url));
+            return;
+        }
+
+        newTx.executeWithoutResult(status -> imageBlobRepository.decrement(hash));
+        // 감소가 커밋된 뒤 행을 잠그고 다시 확인 → 그 사이 같은 내용이 다시 올라왔으면 남김
+        // (파일을 지운 뒤 행 삭제가 실패해도 0 인 행이 남을 뿐, 다음 업로드가 파일을 다시 채움)
+        newTx.executeWithoutResult(status -> imageBlobRepository.findForUpdate(hash)
+                .filter(blob -> blob.getRefCount() <= 0)
+                .ifPresent(blob -> {
+                    deleteQuietly(toFilePath(blob.getUrl()));
+                    for (String suffix : new String[]{"thumb", "medium"}) {
+                        deleteQuietly(blobDir.resolve(hash + "_" + suffix + ".jpg"));
+                    }
+                    imageBlobRepository.delete(blob);
+                }));
+    }
+
+    // ======================
+    //  변환본
+    // ======================
+    @Override
+    public byte[] readImage(String url) {
+        try {
+            return Files.readAllBytes(toFilePath(url));
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 읽기 실패", e);
+        }
+    }
+
+    // 같은 내용이면 변환본도 같으므로 이미 있으면 다시 쓰지 않음
+    @Override
+    public String saveVariant(String originalUrl, String suffix, byte[] jpeg) {
+        Path original = toFilePath(originalUrl);
+        String name = original.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = (dot > 0) ? name.substring(0, dot) : name;
+        String variantName = base + "_" + suffix + ".jpg";
+
+        Path target = original.resolveSibling(variantName);
+        if (!Files.exists(target)) {
+            try {
+                Path temp = Files.createTempFile(target.getParent(), "variant-", ".tmp");
+                Files.write(temp, jpeg);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new RuntimeException("이미지 저장 실패", e);
+            }
+        }
+
+        String subDir = original.getParent().getFileName().toString();
+        return "/uploads/" + subDir + "/" + variantName;
+    }
+
+    // blob 변환본은 다른 글과 공유 → blob 삭제 시 함께 정리
+    @Override
+    public void deleteVariant(String url) {
+        if (!StringUtils.hasText(url) || url.startsWith("/uploads/" + BLOB_DIR + "/")) return;
+        deleteQuietly(toFilePath(url));
+    }
+
+    // ======================
+    //  내부 유틸
+    // ======================
+
+    // 업로드 스트림을 한 번 읽으며 임시 파일에 쓰고 해시 계산
+    private static String copyHashing(MultipartFile file, Path temp) throws IOException {
+        try (DigestInputStream in = new DigestInputStream(file.getInputStream(), newDigest())) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            return HexFormat.of().formatHex(in.getMessageDigest().digest());
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 같은 해시면 내용도 같으므로 이미 있으면 그대로 사용
+    // (이동은 원자적이라 다른 요청이 덜 쓴 파일을 보지 않음)
+    private static void moveIfMissing(Path temp, Path target) {
+        if (Files.exists(target)) {
+            return;
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 저장 실패", e);
+        }
+    }
+
+    private static String extension(String originalName) {
+        if (originalName == null || !originalName.contains(".")) {
+            return "";
+        }
+        String ext = originalName.substring(originalName.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(ext).matches() ? ext : "";
+    }
+
+    // /uploads/blob/{hash}.png → hash, blob 이 아니면 null
+    private static String hashOf(String url) {
+        String prefix = "/uploads/" + BLOB_DIR + "/";
+        if (!url.startsWith(prefix)) {
+            return null;
+        }
+        String name = url.substring(prefix.length());
+        int dot = name.indexOf('.');
+        return (dot > 0) ? name.substring(0, dot) : name;
+    }
+
+    // /uploads/blob/a.png → {uploadDir}/blob/a.png
+    private Path toFilePath(String url) {
+        Path urlPath = Paths.get(url);
+        String fileName = urlPath.getFileName().toString();
+        String subDir = urlPath.getParent().getFileName().toString();
+        return uploadDir.resolve(subDir).resolve(fileName);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("이미지 삭제 실패: {}", path, e);
+        }
+    }
+}
@@ -27,4 +27,12 @@ public interface ImageStorage {
     void deleteRoommateImage(String url);
     void deleteFreeImage(String url);
     void deletePolicyImage(String url);
+
+    // 변환용 원본 읽기
+    byte[] readImage(String url);
+
+    // 원본과 같은 위치에 변환본(JPEG) 저장 후 URL 반환 (suffix: thumb, medium)
+    String saveVariant(String originalUrl, String suffix, byte[] jpeg);
+
+    void deleteVariant(String url);
 }
@@ -1,6 +1,7 @@
 package com.ganzithon.homemate.service.storage;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -11,7 +12,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.UUID;
 
+// homemate.storage.type 미설정(기본) 또는 local
 @Service
+@ConditionalOnProperty(name = "homemate.storage.type", havingValue = "local", matchIfMissing = true)
 public class LocalImageStorage implements ImageStorage {
 
     @Value("${homemate.upload-dir}")
@@ -70,15 +73,7 @@ public class LocalImageStorage implements ImageStorage {
         if (!StringUtils.hasText(url)) return;
 
         try {
-            Path urlPath = Paths.get(url);     // /uploads/roommate/a.png
-            String fileName = urlPath.getFileName().toString();  // a.png
-            String subDir = urlPath.getParent().getFileName().toString(); // roommate
-
-            // 실제 저장된 파일 경로
-            Path filePath = Paths.get(uploadDir, subDir, fileName);
-
-            Files.deleteIfExists(filePath);
-
+            Files.deleteIfExists(toFilePath(url));
         } catch (Exception e) {
             // 삭제 실패시 로그만 남기기
             // log.warn("이미지 삭제 실패: {}", url, e);
@@ -100,4 +95,49 @@ public class LocalImageStorage implements ImageStorage {
     public void deletePolicyImage(String url) {
         deleteByUrl(url);
     }
+
+
+    // ======================
+    //  변환본
+    // ======================
+    @Override
+    public byte[] readImage(String url) {
+        try {
+            return Files.readAllBytes(toFilePath(url));
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 읽기 실패", e);
+        }
+    }
+
+    // /uploads/free/a.png → /uploads/free/a_thumb.jpg
+    @Override
+    public String saveVariant(String originalUrl, String suffix, byte[] jpeg) {
+        Path original = toFilePath(originalUrl);
+        String name = original.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = (dot > 0) ? name.substring(0, dot) : name;
+        String variantName = base + "_" + suffix + ".jpg";
+
+        try {
+            Files.write(original.resolveSibling(variantName), jpeg);
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 저장 실패", e);
+        }
+
+        String subDir = original.getParent().getFileName().toString();
+        return "/uploads/" + subDir + "/" + variantName;
+    }
+
+    @Override
+    public void deleteVariant(String url) {
+        deleteByUrl(url);
+    }
+
+    // /uploads/roommate/a.png → {uploadDir}/roommate/a.png
+    private Path toFilePath(String url) {
+        Path urlPath = Paths.get(url);
+        String fileName = urlPath.getFileName().toString();
+        String subDir = urlPath.getParent().getFileName().toString();
+        return Paths.get(uploadDir, subDir, fileName);
+    }
 }
@@ -0,0 +1,208 @@
+package com.ganzithon.homemate.service.storage;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PresignedUploadResponse;
+import com.ganzithon.homemate.entity.Post.PostImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// ========================================
+// 게시글 이미지 파일 처리 (DB 트랜잭션 밖)
+// - 업로드: 가상 스레드로 병렬 저장, 트랜잭션 시작 전에 호출
+// - 직접 업로드(presigned) 를 지원하는 저장소면 URL 발급/확인도 여기서
+// - 트랜잭션 안에서는 파일을 건드리지 않고 동기화 콜백만 등록
+//   · 롤백되면 새로 올린 파일 삭제 (보상 처리)
+//   · 커밋되면 교체/삭제된 기존 파일 삭제
+// ========================================
+@Slf4j
+@Component
+public class PostImageFiles {
+
+    // 직접 업로드는 앱이 내용을 보지 않으므로 형식을 명시적으로 제한
+    private static final Set<String> DIRECT_UPLOAD_TYPES =
+            Set.of("image/jpeg", "image/png", "image/gif", "image/webp", "image/heic");
+
+    private final ImageStorage imageStorage;
+
+    public PostImageFiles(ImageStorage imageStorage) {
+        this.imageStorage = imageStorage;
+    }
+
+    // 순서 유지, 하나라도 실패하면 이미 올린 파일 지우고 예외
+    public List<String> uploadAll(PostCategory category, List<MultipartFile> images) {
+        if (images == null || images.isEmpty()) {
+            return List.of();
+        }
+        List<MultipartFile> files = images.stream()
+                .filter(f -> f != null && !f.isEmpty())
+                .toList();
+
+        List<Future<String>> futures = new ArrayList<>(files.size());
+        List<String> urls = new ArrayList<>(files.size());
+        RuntimeException failure = null;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile file : files) {
+                futures.add(executor.submit(() -> upload(category, file)));
+            }
+            for (Future<String> future : futures) {
+                try {
+                    urls.add(future.get());
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = (e.getCause() instanceof RuntimeException re)
+                                ? re
+                                : new RuntimeException("이미지 저장 실패", e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    if (failure == null) {
+                        failure = new RuntimeException("이미지 저장 중단", e);
+                    }
+                }
+            }
+        }
+
+        if (failure != null) {
+            deleteAll(category, urls);
+            throw failure;
+        }
+        return urls;
+    }
+
+    // 클라이언트 직접 업로드용 URL (허용한 형식, 최대 크기 이하만)
+    public PresignedUploadResponse presignUpload(PostCategory category, String contentType, long contentLength) {
+        PresignedImageStorage storage = presignedStorage();
+        if (contentType == null || !DIRECT_UPLOAD_TYPES.contains(contentType.toLowerCase(Locale.ROOT))) {
+            throw new IllegalArgumentException("jpeg, png, gif, webp, heic 이미지만 업로드할 수 있습니다.");
+        }
+        if (contentLength < 1 || contentLength > storage.maxUploadBytes()) {
+            throw new IllegalArgumentException("이미지 크기는 " + storage.maxUploadBytes() + " 바이트 이하여야 합니다.");
+        }
+        return storage.presignUpload(category, contentType.toLowerCase(Locale.ROOT), contentLength);
+    }
+
+    // 직접 업로드한 이미지가 실제로 올라갔고 크기/형식이 맞는지 확인 (트랜잭션 시작 전에 호출)
+    public List<String> acceptDirectUploads(List<String> urls) {
+        if (urls == null || urls.isEmpty()) {
+            return List.of();
+        }
+        PresignedImageStorage storage = presignedStorage();
+        for (String url : urls) {
+            PresignedImageStorage.UploadedObject object = StringUtils.hasText(url)
+                    ? storage.head(url).orElse(null)
+                    : null;
+            if (object == null) {
+                throw new IllegalArgumentException("업로드되지 않은 이미지입니다.");
+            }
+            if (object.size() > storage.maxUploadBytes()
+                    || object.contentType() == null
+                    || !DIRECT_UPLOAD_TYPES.contains(object.contentType().toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("허용되지 않는 이미지입니다.");
+            }
+        }
+        return List.copyOf(urls);
+    }
+
+    // 새로 붙이는 URL 은 presignUpload 로 발급한 형식만 허용
+    // - 앱이 올린 원본이나 _thumb/_medium 변환본 키로 남의 파일을 가져와 지우는 것 방지
+    public void requireIssuedUploads(List<String> urls) {
+        PresignedImageStorage storage = presignedStorage();
+        for (String url : urls) {
+            if (!storage.isDirectUpload(url)) {
+                throw new IllegalArgumentException("직접 업로드로 발급받은 이미지만 사용할 수 있습니다.");
+            }
+        }
+    }
+
+    // 조회도 저장소에서 직접 받도록 할 때의 URL (지원하지 않으면 empty)
+    public Optional<String> presignDownload(String url) {
+        return (imageStorage instanceof PresignedImageStorage storage)
+                ? Optional.of(storage.presignDownload(url))
+                : Optional.empty();
+    }
+
+    private PresignedImageStorage presignedStorage() {
+        if (imageStorage instanceof PresignedImageStorage storage) {
+            return storage;
+        }
+        throw new IllegalArgumentException("직접 업로드를 지원하지 않는 저장소입니다.");
+    }
+
+    // 현재 트랜잭션이 롤백되면 삭제
+    public void deleteOnRollback(PostCategory category, List<String> urls) {
+        if (urls.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteAll(category, urls);
+                }
+            }
+        });
+    }
+
+    // 현재 트랜잭션이 커밋되면 원본 + 변환본 삭제
+    // - 파일 위치는 URL 기준이라 게시판 이동 후에도 그대로 삭제 가능
+    public void deleteAfterCommit(PostCategory category, List<PostImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        List<String> urls = new ArrayList<>();
+        List<String> variantUrls = new ArrayList<>();
+        for (PostImage img : images) {
+            urls.add(img.getUrl());
+            variantUrls.add(img.getThumbnailUrl());
+            variantUrls.add(img.getMediumUrl());
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteAll(category, urls);
+                variantUrls.stream()
+                        .filter(StringUtils::hasText)
+                        .forEach(imageStorage::deleteVariant);
+            }
+        });
+    }
+
+    private String upload(PostCategory category, MultipartFile file) {
+        return switch (category) {
+            case ROOMMATE -> imageStorage.uploadRoommateImage(file);
+            case FREE -> imageStorage.uploadFreeImage(file);
+            case POLICY -> imageStorage.uploadPolicyImage(file);
+        };
+    }
+
+    private void deleteAll(PostCategory category, List<String> urls) {
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) continue;
+            try {
+                switch (category) {
+                    case ROOMMATE -> imageStorage.deleteRoommateImage(url);
+                    case FREE -> imageStorage.deleteFreeImage(url);
+                    case POLICY -> imageStorage.deletePolicyImage(url);
+                }
+            } catch (RuntimeException e) {
+                log.warn("이미지 삭제 실패: {}", url, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ganzithon.homemate.service.storage;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PresignedUploadResponse;
+
+import java.util.Optional;
+
+// 앱을 거치지 않고 클라이언트가 직접 올리고/받는 저장소 (S3 등)
+public interface PresignedImageStorage {
+
+    // contentType, contentLength 까지 서명 → 다른 크기/형식으로는 올릴 수 없음
+    PresignedUploadResponse presignUpload(PostCategory category, String contentType, long contentLength);
+
+    // 직접 업로드 한 개의 최대 크기
+    long maxUploadBytes();
+
+    // presignUpload 로 발급한 원본 URL 형식인지 (앱이 올린 파일, 변환본 키는 false)
+    boolean isDirectUpload(String url);
+
+    // 실제로 올라간 객체의 크기/형식 (없으면 empty)
+    Optional<UploadedObject> head(String url);
+
+    String presignDownload(String url);
+
+    record UploadedObject(long size, String contentType) {
+    }
+}
@@ -0,0 +1,331 @@
+package com.ganzithon.homemate.service.storage;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PresignedUploadResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// ========================================
+// S3 호환 이미지 저장소 (homemate.storage.type=s3)
+// - 여러 인스턴스가 같은 버킷을 공유 → 로드밸런서 뒤에서 여러 대 실행 가능
+// - URL 은 로컬과 같은 /uploads/{dir}/{file} (객체 키 = {dir}/{file})
+//   · 조회는 UploadImageController 가 presigned GET 으로 리다이렉트 (앱은 바이트를 중계하지 않음)
+// - 업로드는 스트리밍: part-size 이하면 한 번에, 넘으면 멀티파트 (메모리에는 파트 하나만)
+// - 클라이언트 직접 업로드용 presigned PUT 발급 (Content-Type, Content-Length 까지 서명)
+//   · 키는 {dir}/direct-{uuid}{ext} 로 따로 구분 → 글에 붙일 때 이 형식만 받음
+//     (앱이 올린 원본이나 _thumb/_medium 변환본 키를 남의 글에서 가져오는 것 방지)
+// ========================================
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "homemate.storage.type", havingValue = "s3")
+public class S3ImageStorage implements ImageStorage, PresignedImageStorage {
+
+    private static final String URL_PREFIX = "/uploads/";
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final Pattern EXTENSION = Pattern.compile("\\.[a-z0-9]{1,5}");
+    private static final String DIRECT_PREFIX = "direct-";
+    private static final Pattern DIRECT_UPLOAD_URL = Pattern.compile(
+            "/uploads/(roommate|free|policy)/" + DIRECT_PREFIX
+                    + "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(\\.[a-z0-9]{1,5})?");
+
+    private final S3Client s3;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final long partSize;
+    private final Duration presignTtl;
+    private final long maxDirectUploadBytes;
+
+    public S3ImageStorage(S3Client s3, S3Presigner presigner, S3StorageProperties props) {
+        this.s3 = s3;
+        this.presigner = presigner;
+        this.bucket = props.getBucket();
+        this.partSize = Math.max(5, props.getPartSizeMb()) * 1024L * 1024L;
+        this.presignTtl = Duration.ofMinutes(props.getPresignTtlMinutes());
+        this.maxDirectUploadBytes = props.getDirectUploadMaxMb() * 1024L * 1024L;
+    }
+
+    @Override
+    public String uploadRoommateImage(MultipartFile file) {
+        return save(file, "roommate");
+    }
+
+    @Override
+    public String uploadFreeImage(MultipartFile file) {
+        return save(file, "free");
+    }
+
+    @Override
+    public String uploadPolicyImage(MultipartFile file) {
+        return save(file, "policy");
+    }
+
+    @Override
+    public void deleteRoommateImage(String url) {
+        deleteByUrl(url);
+    }
+
+    @Override
+    public void deleteFreeImage(String url) {
+        deleteByUrl(url);
+    }
+
+    @Override
+    public void deletePolicyImage(String url) {
+        deleteByUrl(url);
+    }
+
+    // ======================
+    //  업로드
+    // ======================
+    private String save(MultipartFile file, String dir) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+        String key = dir + "/" + UUID.randomUUID() + extension(file.getOriginalFilename());
+        String contentType = StringUtils.hasText(file.getContentType())
+                ? file.getContentType()
+                : "application/octet-stream";
+
+        try (InputStream in = file.getInputStream()) {
+            long size = file.getSize();
+            if (size <= partSize) {
+                s3.putObject(putRequest(key, contentType), RequestBody.fromInputStream(in, size));
+            } else {
+                multipartUpload(key, contentType, in, size);
+            }
+        } catch (IOException | SdkException e) {
+            throw new RuntimeException("이미지 저장 실패", e);
+        }
+        return URL_PREFIX + key;
+    }
+
+    // 파트 크기만큼씩 읽어 올림, 실패하면 업로드 취소 (미완료 파트 과금 방지)
+    private void multipartUpload(String key, String contentType, InputStream in, long size) throws IOException {
+        String uploadId = s3.createMultipartUpload(b -> b
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(IMMUTABLE)
+        ).uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            long remaining = size;
+            int partNumber = 1;
+            while (remaining > 0) {
+                int length = (int) Math.min(partSize, remaining);
+                byte[] chunk = in.readNBytes(length);
+                if (chunk.length != length) {
+                    throw new IOException("업로드 스트림이 예상보다 짧습니다.");
+                }
+                int number = partNumber;
+                String etag = s3.uploadPart(b -> b
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(number)
+                        .contentLength((long) length),
+                        RequestBody.fromBytes(chunk)
+                ).eTag();
+                parts.add(CompletedPart.builder().partNumber(number).eTag(etag).build());
+
+                remaining -= length;
+                partNumber++;
+            }
+
+            s3.completeMultipartUpload(b -> b
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build()));
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3.abortMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId));
+            } catch (SdkException abortFailure) {
+                e.addSuppressed(abortFailure);
+            }
+            throw e;
+        }
+    }
+
+    // ======================
+    //  삭제
+    // ======================
+    private void deleteByUrl(String url) {
+        String key = keyOf(url);
+        if (key == null) return;
+
+        try {
+            s3.deleteObject(b -> b.bucket(bucket).key(key));
+        } catch (SdkException e) {
+            // 삭제 실패시 로그만 남기기 (버킷 수명 주기 규칙으로 정리)
+            log.warn("이미지 삭제 실패: {}", url, e);
+        }
+    }
+
+    // ======================
+    //  변환본
+    // ======================
+    @Override
+    public byte[] readImage(String url) {
+        try {
+            return s3.getObjectAsBytes(b -> b.bucket(bucket).key(keyOf(url))).asByteArray();
+        } catch (SdkException e) {
+            throw new RuntimeException("이미지 읽기 실패", e);
+        }
+    }
+
+    // /uploads/free/a.png → /uploads/free/a_thumb.jpg
+    @Override
+    public String saveVariant(String originalUrl, String suffix, byte[] jpeg) {
+        String key = keyOf(originalUrl);
+        int dot = key.lastIndexOf('.');
+        int slash = key.lastIndexOf('/');
+        String base = (dot > slash) ? key.substring(0, dot) : key;
+        String variantKey = base + "_" + suffix + ".jpg";
+
+        try {
+            s3.putObject(putRequest(variantKey, "image/jpeg"), RequestBody.fromBytes(jpeg));
+        } catch (SdkException e) {
+            throw new RuntimeException("이미지 저장 실패", e);
+        }
+        return URL_PREFIX + variantKey;
+    }
+
+    @Override
+    public void deleteVariant(String url) {
+        deleteByUrl(url);
+    }
+
+    // ======================
+    //  presigned URL
+    // ======================
+    @Override
+    public PresignedUploadResponse presignUpload(PostCategory category, String contentType, long contentLength) {
+        String dir = category.name().toLowerCase(Locale.ROOT);
+        String key = dir + "/" + DIRECT_PREFIX + UUID.randomUUID() + extensionFor(contentType);
+
+        PutObjectRequest put = putRequest(key, contentType).toBuilder()
+                .contentLength(contentLength)
+                .build();
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(b -> b
+                .signatureDuration(presignTtl)
+                .putObjectRequest(put));
+
+        // host 는 URL 에, content-length 는 본문에서 나오므로 나머지만 전달
+        Map<String, String> headers = new TreeMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host") && !name.equalsIgnoreCase("content-length")) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return new PresignedUploadResponse(
+                presigned.url().toString(),
+                headers,
+                contentLength,
+                URL_PREFIX + key,
+                presigned.expiration()
+        );
+    }
+
+    @Override
+    public long maxUploadBytes() {
+        return maxDirectUploadBytes;
+    }
+
+    @Override
+    public boolean isDirectUpload(String url) {
+        return url != null && DIRECT_UPLOAD_URL.matcher(url).matches();
+    }
+
+    @Override
+    public Optional<UploadedObject> head(String url) {
+        String key = keyOf(url);
+        if (key == null) {
+            return Optional.empty();
+        }
+        try {
+            HeadObjectResponse head = s3.headObject(b -> b.bucket(bucket).key(key));
+            return Optional.of(new UploadedObject(head.contentLength(), head.contentType()));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public String presignDownload(String url) {
+        return presigner.presignGetObject(b -> b
+                .signatureDuration(presignTtl)
+                .getObjectRequest(g -> g.bucket(bucket).key(keyOf(url)))
+        ).url().toString();
+    }
+
+    // ======================
+    //  내부 유틸
+    // ======================
+    private PutObjectRequest putRequest(String key, String contentType) {
+        return PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(IMMUTABLE)
+                .build();
+    }
+
+    // /uploads/free/a.png → free/a.png (다른 형태면 null)
+    private static String keyOf(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String key = url.substring(URL_PREFIX.length());
+        return (key.contains("..") || key.startsWith("/")) ? null : key;
+    }
+
+    private static String extension(String originalName) {
+        if (originalName == null || !originalName.contains(".")) {
+            return "";
+        }
+        String ext = originalName.substring(originalName.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(ext).matches() ? ext : "";
+    }
+
+    private static String extensionFor(String contentType) {
+        return switch (contentType.toLowerCase(Locale.ROOT)) {
+            case "image/jpeg" -> ".jpg";
+            case "image/png" -> ".png";
+            case "image/gif" -> ".gif";
+            case "image/webp" -> ".webp";
+            case "image/heic" -> ".heic";
+            default -> "";
+        };
+    }
+}
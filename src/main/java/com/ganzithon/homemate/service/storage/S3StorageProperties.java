@@ -0,0 +1,30 @@
+package com.ganzithon.homemate.service.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// homemate.storage.type=s3 일 때 사용 (endpoint 를 주면 MinIO 등 S3 호환 서버)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "homemate.s3")
+public class S3StorageProperties {
+
+    private String bucket;
+    private String region = "ap-northeast-2";
+    private String endpoint;
+    private boolean pathStyleAccess;
+
+    // 비워 두면 기본 자격 증명 체인 (EC2 인스턴스 역할 등)
+    private String accessKey;
+    private String secretKey;
+
+    // 이 크기를 넘는 파일은 멀티파트 업로드 (S3 최소 파트 크기 5MB)
+    private int partSizeMb = 8;
+    private long presignTtlMinutes = 10;
+
+    // 클라이언트 직접 업로드(presigned PUT) 한 개의 최대 크기
+    private int directUploadMaxMb = 10;
+}
@@ -0,0 +1,120 @@
+-- =====================================================================
+-- V1: Flyway 도입 이전(ddl-auto 로 만들어진) 스키마 (MySQL 8)
+-- - 이미 운영 중인 DB 는 baselineOnMigrate 로 V1 을 건너뛰고 V2 부터 적용
+-- - 새 DB 는 이 파일부터 차례로 적용
+-- =====================================================================
+
+CREATE TABLE users (
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    login_id             VARCHAR(60)  NOT NULL,
+    password             VARCHAR(255) NOT NULL,
+    desired_area         VARCHAR(100),
+    desired_move_in_date DATE,
+    introduction         VARCHAR(500),
+    profile_image_path   VARCHAR(500),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_login_id UNIQUE (login_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE housing_info (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    hsmp_sn         VARCHAR(255) NOT NULL,
+    brtc_nm         VARCHAR(255),
+    signgu_nm       VARCHAR(255),
+    hsmp_nm         VARCHAR(255),
+    hshld_co        INTEGER,
+    bass_rent_gtn   BIGINT,
+    bass_mt_rntchrg BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_housing_info_hsmp_sn UNIQUE (hsmp_sn)
+) ENGINE = InnoDB;
+
+CREATE TABLE comment (
+    id         BIGINT   NOT NULL AUTO_INCREMENT,
+    category   ENUM ('FREE','POLICY','ROOMMATE') NOT NULL,
+    post_id    BIGINT   NOT NULL,
+    user_id    BIGINT   NOT NULL,
+    content    LONGTEXT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post_like (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    category   ENUM ('FREE','POLICY','ROOMMATE') NOT NULL,
+    post_id    BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_post_like_category_post_user UNIQUE (category, post_id, user_id)
+) ENGINE = InnoDB;
+
+-- 게시판별 테이블 (V2 에서 post 로 통합)
+
+CREATE TABLE free_post (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT       NOT NULL,
+    title        VARCHAR(100) NOT NULL,
+    content      LONGTEXT     NOT NULL,
+    sido_code    VARCHAR(10)  NOT NULL,
+    sigungu_code VARCHAR(10)  NOT NULL,
+    view_count   BIGINT       NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE roommate_post (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT       NOT NULL,
+    title        VARCHAR(100) NOT NULL,
+    content      LONGTEXT     NOT NULL,
+    sido_code    VARCHAR(10)  NOT NULL,
+    sigungu_code VARCHAR(10)  NOT NULL,
+    view_count   BIGINT       NOT NULL,
+    openchat_url VARCHAR(255) NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE policy_post (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT       NOT NULL,
+    title        VARCHAR(100) NOT NULL,
+    content      LONGTEXT     NOT NULL,
+    sido_code    VARCHAR(10),
+    sigungu_code VARCHAR(10),
+    view_count   BIGINT       NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE free_post_image (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id  BIGINT       NOT NULL,
+    url      VARCHAR(512) NOT NULL,
+    order_no SMALLINT     NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_free_post_image_post FOREIGN KEY (post_id) REFERENCES free_post (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE roommate_post_image (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id  BIGINT       NOT NULL,
+    url      VARCHAR(512) NOT NULL,
+    order_no SMALLINT     NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_roommate_post_image_post FOREIGN KEY (post_id) REFERENCES roommate_post (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE policy_post_image (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id  BIGINT       NOT NULL,
+    url      VARCHAR(512) NOT NULL,
+    order_no SMALLINT     NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_policy_post_image_post FOREIGN KEY (post_id) REFERENCES policy_post (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,55 @@
+-- =====================================================================
+-- V2_1: 기존 게시판 3개 테이블 → post / post_image 데이터 이관 (MySQL 8)
+-- - 게시글 id 가 새로 발급되므로 comment / post_like 의 post_id 도 같이 변환
+-- - DML 만 있으므로 Flyway 트랜잭션 하나로 묶임
+--   (중간에 실패하면 전부 롤백되고, 성공해야만 버전이 기록됨)
+-- =====================================================================
+
+-- 1) 게시글 복사
+
+INSERT INTO post (category, user_id, title, content, sido_code, sigungu_code,
+                  view_count, openchat_url, created_at, updated_at, legacy_id)
+SELECT 'ROOMMATE', user_id, title, content, sido_code, sigungu_code,
+       view_count, openchat_url, created_at, updated_at, id
+FROM roommate_post;
+
+INSERT INTO post (category, user_id, title, content, sido_code, sigungu_code,
+                  view_count, openchat_url, created_at, updated_at, legacy_id)
+SELECT 'FREE', user_id, title, content, sido_code, sigungu_code,
+       view_count, NULL, created_at, updated_at, id
+FROM free_post;
+
+INSERT INTO post (category, user_id, title, content, sido_code, sigungu_code,
+                  view_count, openchat_url, created_at, updated_at, legacy_id)
+SELECT 'POLICY', user_id, title, content, sido_code, sigungu_code,
+       view_count, NULL, created_at, updated_at, id
+FROM policy_post;
+
+-- 2) 이미지 복사
+INSERT INTO post_image (post_id, url, order_no)
+SELECT p.id, i.url, i.order_no
+FROM roommate_post_image i
+JOIN post p ON p.category = 'ROOMMATE' AND p.legacy_id = i.post_id;
+
+INSERT INTO post_image (post_id, url, order_no)
+SELECT p.id, i.url, i.order_no
+FROM free_post_image i
+JOIN post p ON p.category = 'FREE' AND p.legacy_id = i.post_id;
+
+INSERT INTO post_image (post_id, url, order_no)
+SELECT p.id, i.url, i.order_no
+FROM policy_post_image i
+JOIN post p ON p.category = 'POLICY' AND p.legacy_id = i.post_id;
+
+-- 3) 댓글/좋아요 post_id 변환
+--    (category, post_id, user_id) 유니크 제약이 중간에 충돌하지 않도록
+--    먼저 음수로 옮긴 뒤 부호를 되돌림
+UPDATE comment c
+JOIN post p ON p.category = c.category AND p.legacy_id = c.post_id
+SET c.post_id = -p.id;
+UPDATE comment SET post_id = -post_id WHERE post_id < 0;
+
+UPDATE post_like l
+JOIN post p ON p.category = l.category AND p.legacy_id = l.post_id
+SET l.post_id = -p.id;
+UPDATE post_like SET post_id = -post_id WHERE post_id < 0;
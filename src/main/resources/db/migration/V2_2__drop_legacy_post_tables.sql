@@ -0,0 +1,14 @@
+-- =====================================================================
+-- V2_2: 이관이 끝난 기존 테이블과 legacy_id 정리 (MySQL 8)
+-- - DDL 이라 문장마다 커밋됨 → 중간에 실패해도 재실행할 수 있게
+--   DROP TABLE IF EXISTS 로 두고, 유일하게 재실행이 안 되는 DROP COLUMN 은 마지막
+-- =====================================================================
+
+DROP TABLE IF EXISTS roommate_post_image;
+DROP TABLE IF EXISTS free_post_image;
+DROP TABLE IF EXISTS policy_post_image;
+DROP TABLE IF EXISTS roommate_post;
+DROP TABLE IF EXISTS free_post;
+DROP TABLE IF EXISTS policy_post;
+
+ALTER TABLE post DROP COLUMN legacy_id;
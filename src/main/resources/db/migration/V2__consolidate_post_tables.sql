@@ -0,0 +1,34 @@
+-- =====================================================================
+-- V2: free_post / roommate_post / policy_post → post 단일 테이블 (MySQL 8)
+--     1단계: post / post_image 생성
+-- - MySQL DDL 은 문장마다 암묵적 커밋이라 스크립트 전체가 원자적이지 않음
+--   → DDL(V2) / 데이터 이관(V2_1) / 정리(V2_2) 를 별도 버전으로 분리
+-- - V2 는 재실행해도 안전 (IF NOT EXISTS)
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS post (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    category      ENUM ('FREE','POLICY','ROOMMATE') NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    title         VARCHAR(100) NOT NULL,
+    content       LONGTEXT     NOT NULL,
+    sido_code     VARCHAR(10),
+    sigungu_code  VARCHAR(10),
+    view_count    BIGINT       NOT NULL,
+    openchat_url  VARCHAR(255),
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    legacy_id     BIGINT,                            -- 기존 id 기억, V2_2 에서 제거
+    PRIMARY KEY (id),
+    INDEX idx_post_category_created (category, created_at),
+    INDEX idx_post_user_created (user_id, created_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS post_image (
+    id        BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id   BIGINT       NOT NULL,
+    url       VARCHAR(512) NOT NULL,
+    order_no  SMALLINT     NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_image_post FOREIGN KEY (post_id) REFERENCES post (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,22 @@
+-- =====================================================================
+-- V3: 조회 패턴별 인덱스
+-- - 엔티티 @Table(indexes) 와 같은 이름/컬럼으로 유지할 것
+-- - post_image.post_id 는 FK(fk_post_image_post) 인덱스로 처리
+-- =====================================================================
+
+-- 게시판 목록 + 지역 필터 (category, sido, sigungu 고정 후 created_at 정렬)
+CREATE INDEX idx_post_region_created
+    ON post (category, sido_code, sigungu_code, created_at);
+
+-- 게시글별 댓글 목록/개수/커서 페이지
+CREATE INDEX idx_comment_post_created
+    ON comment (category, post_id, created_at, id);
+
+-- 내가 쓴 댓글
+CREATE INDEX idx_comment_user_created
+    ON comment (user_id, created_at);
+
+-- 좋아요 수/여부는 uk_post_like_category_post_user (category, post_id, user_id) 로 처리
+-- 내가 누른 좋아요
+CREATE INDEX idx_post_like_user_created
+    ON post_like (user_id, created_at);
@@ -0,0 +1,8 @@
+-- =====================================================================
+-- V4: 게시글 이미지 변환본 (썸네일 / 중간 크기 JPEG)
+-- - 업로드 후 비동기로 채워지며, 비어 있으면 원본 사용
+-- =====================================================================
+
+ALTER TABLE post_image
+    ADD COLUMN thumbnail_url VARCHAR(512) NULL,
+    ADD COLUMN medium_url    VARCHAR(512) NULL;
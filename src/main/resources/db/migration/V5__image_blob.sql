@@ -0,0 +1,14 @@
+-- =====================================================================
+-- V5: 내용 주소(SHA-256) 이미지 저장소의 참조 카운트
+-- - 같은 내용의 이미지는 파일 하나만 저장, 참조가 0 이 되면 파일 삭제
+-- - homemate.storage.type=content-addressed 일 때만 사용
+-- =====================================================================
+
+CREATE TABLE image_blob (
+    hash       VARCHAR(64)  NOT NULL,
+    url        VARCHAR(512) NOT NULL,
+    size       BIGINT       NOT NULL,
+    ref_count  INT          NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (hash)
+) ENGINE = InnoDB;
@@ -0,0 +1,29 @@
+-- =====================================================================
+-- V6: refresh token 회전 + access token 폐기 목록
+-- - refresh token 은 해시만 저장, 같은 로그인에서 이어진 토큰은 family_id 공유
+-- - 사용된 refresh token 이 다시 오면 family 전체 폐기
+-- - 폐기된 access token(jti) 은 만료 시각까지만 보관, 서버는 주기적으로 메모리에 동기화
+-- =====================================================================
+
+CREATE TABLE refresh_token (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    token_hash VARCHAR(64) NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    family_id  VARCHAR(36) NOT NULL,
+    access_jti VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    used_at    DATETIME(6),
+    revoked_at DATETIME(6),
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    INDEX idx_refresh_token_family (family_id),
+    INDEX idx_refresh_token_expires (expires_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE revoked_access_token (
+    jti        VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (jti),
+    INDEX idx_revoked_access_token_expires (expires_at)
+) ENGINE = InnoDB;
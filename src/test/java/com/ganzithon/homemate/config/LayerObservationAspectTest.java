@@ -0,0 +1,94 @@
+package com.ganzithon.homemate.config;
+
+import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.entity.UserAccount;
+import com.ganzithon.homemate.repository.UserRepository;
+import com.ganzithon.homemate.service.UserSummaryService;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 서비스 → 리포지토리 호출이 부모/자식 Observation(span) 으로 기록되는지
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({LayerObservationAspect.class, UserSummaryService.class, LayerObservationAspectTest.Config.class})
+class LayerObservationAspectTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        TestObservationRegistry observationRegistry() {
+            return TestObservationRegistry.create();
+        }
+    }
+
+    @Autowired
+    private TestObservationRegistry registry;
+
+    @Autowired
+    private UserSummaryService userSummaryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void recordsRepositoryQueriesInsideServiceSpans() {
+        Long userId = em.persistFlushFind(User.register(UserAccount.create("alice", "{noop}pw"))).getId();
+        registry.clear();
+
+        userSummaryService.getAll(List.of(userId));
+
+        assertThat(registry)
+                .hasObservationWithNameEqualTo("homemate.service")
+                .that()
+                .hasContextualNameEqualTo("UserSummaryService.getAll")
+                .hasLowCardinalityKeyValue("method", "getAll")
+                .hasBeenStarted()
+                .hasBeenStopped();
+
+        // 구현체(SimpleJpaRepository) 가 아니라 리포지토리 인터페이스 이름
+        assertThat(registry)
+                .hasObservationWithNameEqualTo("homemate.repository")
+                .that()
+                .hasContextualNameEqualTo("UserRepository.findSummariesByIdIn")
+                .hasParentObservationContextMatching(
+                        parent -> "UserSummaryService.getAll".equals(parent.getContextualName()));
+    }
+
+    @Test
+    void recordsInheritedRepositoryMethodsAndErrors() {
+        registry.clear();
+
+        assertThat(userRepository.findById(999_999L)).isEmpty();
+
+        assertThat(registry)
+                .hasObservationWithNameEqualTo("homemate.repository")
+                .that()
+                .hasContextualNameEqualTo("UserRepository.findById");
+
+        registry.clear();
+        assertThatThrownBy(() -> userRepository.findById(null))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(registry)
+                .hasObservationWithNameEqualTo("homemate.repository")
+                .that()
+                .hasError();
+    }
+}
@@ -0,0 +1,71 @@
+package com.ganzithon.homemate.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 미리 만든 parser + 검증 완료 토큰 캐시
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "aG9tZW1hdGUtdGVzdC1zZWNyZXQtaG9tZW1hdGUtdGVzdCE=";
+
+    @Test
+    void repeatedTokenIsServedFromCache() {
+        JwtTokenProvider provider = provider(60_000, 100);
+        String token = provider.createAccessToken("1", "jti-1", Map.of("loginId", "alice"));
+
+        Claims first = provider.parseAccess(token);
+        Claims second = provider.parseAccess(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.get("loginId", String.class)).isEqualTo("alice");
+    }
+
+    @Test
+    void tamperedTokenIsRejectedEvenAfterOriginalIsCached() {
+        JwtTokenProvider provider = provider(60_000, 100);
+        String token = provider.createAccessToken("1", "jti-1", Map.of("loginId", "alice"));
+        provider.parseAccess(token);
+
+        String forged = provider(60_000, 0).createAccessToken("2", "jti-2", Map.of("loginId", "mallory"))
+                .split("\\.")[1];
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + forged + "." + parts[2];
+
+        assertThatThrownBy(() -> provider.parseAccess(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void expiredTokenIsNotCached() {
+        JwtTokenProvider provider = provider(-1_000, 100);
+        String token = provider.createAccessToken("1", "jti-1", Map.of("loginId", "alice"));
+
+        assertThatThrownBy(() -> provider.parseAccess(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> provider.parseAccess(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void worksWithCacheDisabled() {
+        JwtTokenProvider provider = provider(60_000, 0);
+        String token = provider.createAccessToken("7", "jti-7", Map.of("loginId", "bob"));
+
+        assertThat(provider.parseAccess(token).getSubject()).isEqualTo("7");
+        assertThat(provider.parseAccess(token)).isNotSameAs(provider.parseAccess(token));
+    }
+
+    static JwtTokenProvider provider(long expirationMillis, long cacheSize) {
+        JwtProperties props = new JwtProperties();
+        props.setAccessTokenSecret(SECRET);
+        props.setAccessTokenExpiration(expirationMillis);
+        props.setVerifiedTokenCacheSize(cacheSize);
+        JwtTokenProvider provider = new JwtTokenProvider(props);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,61 @@
+package com.ganzithon.homemate.repository;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.entity.Comment;
+import com.ganzithon.homemate.entity.Post.PostLike;
+import com.ganzithon.homemate.repository.Post.PostLikeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시판 이동 시 댓글/좋아요가 행 수와 상관없이 벌크 UPDATE 한 번씩으로 모두 옮겨지는지 검증
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class CategoryMoveBulkUpdateTest {
+
+    private static final long POST_ID = 1L;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @ParameterizedTest(name = "rows={0}")
+    @ValueSource(ints = {100, 1_000, 10_000})
+    void movesEveryRowWithSingleUpdate(int rows) {
+        seed(rows);
+
+        int movedComments = commentRepository.moveAll(PostCategory.FREE, POST_ID, PostCategory.ROOMMATE, POST_ID);
+        int movedLikes = postLikeRepository.moveAll(PostCategory.FREE, POST_ID, PostCategory.ROOMMATE, POST_ID);
+
+        assertThat(movedComments).isEqualTo(rows);
+        assertThat(movedLikes).isEqualTo(rows);
+        assertThat(commentRepository.countByCategoryAndPostId(PostCategory.FREE, POST_ID)).isZero();
+        assertThat(commentRepository.countByCategoryAndPostId(PostCategory.ROOMMATE, POST_ID)).isEqualTo(rows);
+        assertThat(postLikeRepository.countByCategoryAndPostId(PostCategory.FREE, POST_ID)).isZero();
+        assertThat(postLikeRepository.countByCategoryAndPostId(PostCategory.ROOMMATE, POST_ID)).isEqualTo(rows);
+    }
+
+    private void seed(int rows) {
+        List<Comment> comments = new ArrayList<>(rows);
+        List<PostLike> likes = new ArrayList<>(rows);
+        for (long userId = 1; userId <= rows; userId++) {
+            comments.add(Comment.create(PostCategory.FREE, POST_ID, userId, "comment " + userId));
+            likes.add(PostLike.create(PostCategory.FREE, POST_ID, userId));
+        }
+        commentRepository.saveAll(comments);
+        postLikeRepository.saveAll(likes);
+        em.flush();
+        em.clear();
+    }
+}
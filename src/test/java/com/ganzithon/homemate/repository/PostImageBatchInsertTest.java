@@ -0,0 +1,76 @@
+package com.ganzithon.homemate.repository;
+
+import com.ganzithon.homemate.dto.Post.CreatePostRequest;
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.entity.Post.Post;
+import com.ganzithon.homemate.entity.Post.PostImage;
+import com.ganzithon.homemate.repository.Post.PostImageRepository;
+import com.ganzithon.homemate.repository.Post.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 이미지 row JDBC 배치 저장 / 전체 교체 / 사용 중인 URL 확인
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class PostImageBatchInsertTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void insertsRowsInListOrderAndReplacesThem() {
+        Long postId = savePost();
+
+        postImageRepository.insertAll(postId, List.of("/uploads/free/a.png", "/uploads/free/b.png"));
+        assertThat(urls(postId)).containsExactly("/uploads/free/a.png", "/uploads/free/b.png");
+        assertThat(postImageRepository.findPendingVariants(postId)).hasSize(2);
+
+        postImageRepository.deleteByPostId(postId);
+        postImageRepository.insertAll(postId, List.of("/uploads/free/c.png"));
+        assertThat(urls(postId)).containsExactly("/uploads/free/c.png");
+    }
+
+    @Test
+    void detectsUrlsUsedAsOriginalOrVariant() {
+        Long postId = savePost();
+        postImageRepository.insertAll(postId, List.of("/uploads/free/direct-a.png"));
+        Long imageId = postImageRepository.findPendingVariants(postId).get(0).getId();
+        postImageRepository.updateVariants(imageId, "/uploads/free/direct-a.png",
+                "/uploads/free/direct-a_thumb.jpg", "/uploads/free/direct-a_medium.jpg");
+
+        assertThat(postImageRepository.existsAnyUrlIn(List.of("/uploads/free/direct-a.png"))).isTrue();
+        assertThat(postImageRepository.existsAnyUrlIn(List.of("/uploads/free/direct-a_thumb.jpg"))).isTrue();
+        assertThat(postImageRepository.existsAnyUrlIn(List.of("/uploads/free/direct-a_medium.jpg"))).isTrue();
+        assertThat(postImageRepository.existsAnyUrlIn(List.of("/uploads/free/direct-b.png"))).isFalse();
+    }
+
+    private List<String> urls(Long postId) {
+        em.clear();
+        return postRepository.findById(postId).orElseThrow().getImages().stream()
+                .sorted(Comparator.comparingInt(PostImage::getOrderNo))
+                .map(PostImage::getUrl)
+                .toList();
+    }
+
+    private Long savePost() {
+        CreatePostRequest req = new CreatePostRequest();
+        req.setCategory(PostCategory.FREE);
+        req.setTitle("제목");
+        req.setContent("본문");
+        req.setSidoCode("11");
+        req.setSigunguCode("11110");
+        return postRepository.saveAndFlush(Post.create(1L, req)).getId();
+    }
+}
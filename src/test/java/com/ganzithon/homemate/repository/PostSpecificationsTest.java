@@ -0,0 +1,104 @@
+package com.ganzithon.homemate.repository;
+
+import com.ganzithon.homemate.dto.Post.CreatePostRequest;
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PostSearchCondition;
+import com.ganzithon.homemate.dto.Post.SearchType;
+import com.ganzithon.homemate.entity.Post.Post;
+import com.ganzithon.homemate.repository.Post.PostRepository;
+import com.ganzithon.homemate.repository.Post.PostSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시판 목록 필터: 지역만 / 검색어만 / 둘 다 / 기간 조합이 모든 게시판에서 같게 동작
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class PostSpecificationsTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        save(PostCategory.POLICY, "서울 청년 월세 지원", "11", "11110", "2025-03-01T03:00:00Z");
+        save(PostCategory.POLICY, "부산 청년 주거 지원", "26", "26110", "2025-03-10T03:00:00Z");
+        save(PostCategory.POLICY, "전국 공통 안내", null, null, "2025-03-20T03:00:00Z");
+        save(PostCategory.FREE, "서울 자취 꿀팁", "11", "11140", "2025-03-05T03:00:00Z");
+        save(PostCategory.FREE, "100% 환급 후기", "11", "11110", "2025-03-06T03:00:00Z");
+        em.clear();
+    }
+
+    @Test
+    void regionOnlyWorksForPolicyBoard() {
+        assertThat(titles(new PostSearchCondition(PostCategory.POLICY, null, null, "11", null, null, null)))
+                .containsExactly("서울 청년 월세 지원");
+        assertThat(titles(new PostSearchCondition(PostCategory.POLICY, null, null, "26", "26110", null, null)))
+                .containsExactly("부산 청년 주거 지원");
+    }
+
+    @Test
+    void keywordOnlyAndCombinedWithRegion() {
+        assertThat(titles(new PostSearchCondition(PostCategory.POLICY, SearchType.TITLE, "청년", null, null, null, null)))
+                .containsExactly("부산 청년 주거 지원", "서울 청년 월세 지원");
+        assertThat(titles(new PostSearchCondition(PostCategory.POLICY, null, "청년", "26", null, null, null)))
+                .containsExactly("부산 청년 주거 지원");
+        assertThat(titles(new PostSearchCondition(PostCategory.FREE, SearchType.CONTENT, "서울", "11", "11140", null, null)))
+                .containsExactly("서울 자취 꿀팁");
+    }
+
+    @Test
+    void likeWildcardsInKeywordAreLiteral() {
+        assertThat(titles(new PostSearchCondition(PostCategory.FREE, null, "100%", null, null, null, null)))
+                .containsExactly("100% 환급 후기");
+        assertThat(titles(new PostSearchCondition(PostCategory.FREE, null, "%", null, null, null, null)))
+                .containsExactly("100% 환급 후기");
+    }
+
+    @Test
+    void dateRangeIsInclusiveInKoreanTime() {
+        // 2025-03-10T03:00Z = 2025-03-10 12:00 KST
+        assertThat(titles(new PostSearchCondition(PostCategory.POLICY, null, null, null, null,
+                LocalDate.parse("2025-03-10"), LocalDate.parse("2025-03-10"))))
+                .containsExactly("부산 청년 주거 지원");
+        assertThat(titles(new PostSearchCondition(PostCategory.POLICY, null, null, null, null,
+                LocalDate.parse("2025-03-02"), null)))
+                .containsExactly("전국 공통 안내", "부산 청년 주거 지원");
+    }
+
+    private List<String> titles(PostSearchCondition condition) {
+        return postRepository.findAll(PostSpecifications.matching(condition), Sort.by(Sort.Order.desc("createdAt")))
+                .stream()
+                .map(Post::getTitle)
+                .toList();
+    }
+
+    private void save(PostCategory category, String title, String sido, String sigungu, String createdAt) {
+        CreatePostRequest req = new CreatePostRequest();
+        req.setCategory(category);
+        req.setTitle(title);
+        req.setContent(title + " 본문");
+        req.setSidoCode(sido);
+        req.setSigunguCode(sigungu);
+        Post post = postRepository.saveAndFlush(Post.create(1L, req));
+
+        jdbcTemplate.update("update post set created_at = ? where id = ?",
+                Timestamp.from(Instant.parse(createdAt)), post.getId());
+    }
+}
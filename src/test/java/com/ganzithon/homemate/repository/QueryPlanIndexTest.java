@@ -0,0 +1,66 @@
+package com.ganzithon.homemate.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 자주 쓰는 조회가 테이블 풀스캔 없이 의도한 인덱스를 타는지 EXPLAIN 으로 확인
+// - 스키마는 엔티티 @Table(indexes) 기준 (V3 마이그레이션과 이름/컬럼 동일)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plans;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            // 게시판 목록
+            "post list | idx_post_category_created | "
+                    + "select * from post where category = 'FREE' order by created_at desc limit 20",
+            // 게시판 목록 + 지역 필터
+            "post region list | idx_post_region_created | "
+                    + "select * from post where category = 'FREE' and sido_code = '11' and sigungu_code = '11110' "
+                    + "order by created_at desc limit 20",
+            // 내가 쓴 글
+            "my posts | idx_post_user_created | "
+                    + "select * from post where user_id = 1 order by created_at desc limit 20",
+            // 게시글 이미지 배치 로딩
+            "post images | fk_post_image_post | "
+                    + "select * from post_image where post_id in (1, 2, 3) order by order_no",
+            // 댓글 커서 페이지
+            "comment page | idx_comment_post_created | "
+                    + "select * from comment where category = 'FREE' and post_id = 1 "
+                    + "and (created_at > timestamp '2025-01-01 00:00:00' "
+                    + "or (created_at = timestamp '2025-01-01 00:00:00' and id > 10)) "
+                    + "order by created_at, id limit 21",
+            // 목록 댓글 수
+            "comment counts | idx_comment_post_created | "
+                    + "select post_id, count(*) from comment where category = 'FREE' and post_id in (1, 2, 3) group by post_id",
+            // 내가 쓴 댓글
+            "my comments | idx_comment_user_created | "
+                    + "select * from comment where user_id = 1 order by created_at desc limit 20",
+            // 좋아요 수 + likedByMe
+            "like summary | uk_post_like_category_post_user | "
+                    + "select count(*) from post_like where category = 'FREE' and post_id = 1",
+            // 내가 누른 좋아요
+            "my likes | idx_post_like_user_created | "
+                    + "select * from post_like where user_id = 1 order by created_at desc limit 20"
+    })
+    void hotQueryUsesIndex(String name, String expectedIndex, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan)
+                .as(name + "\n" + plan)
+                .doesNotContainIgnoringCase("tableScan")
+                .containsIgnoringCase(expectedIndex);
+    }
+}
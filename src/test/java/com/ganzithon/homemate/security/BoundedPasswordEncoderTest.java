@@ -0,0 +1,95 @@
+package com.ganzithon.homemate.security;
+
+import com.ganzithon.homemate.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 전용 풀 실행 / 포화 시 즉시 거절 / 지표
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void runsHashOnPoolAndRecordsLatency() {
+        try (BoundedPasswordEncoder encoder =
+                     new BoundedPasswordEncoder(NoOpPasswordEncoder.getInstance(), 1, 1, 1_000, registry)) {
+
+            assertThat(encoder.matches("pw", "pw")).isTrue();
+            assertThat(encoder.matches("pw", "other")).isFalse();
+            assertThat(registry.get("homemate.auth.password.hash").timer().count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void rejectsImmediatelyWhenPoolAndQueueAreFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder slow = new BlockingEncoder(started, release);
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 1, 1, 5_000, registry)) {
+            CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "b"));
+            awaitQueued(1);
+
+            assertThatThrownBy(() -> encoder.matches("c", "c")).isInstanceOf(TooManyRequestsException.class);
+            assertThat(registry.get("homemate.auth.password.rejected").counter().count()).isEqualTo(1);
+            assertThat(registry.get("homemate.auth.password.pool.active").gauge().value()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void rejectsWhenWaitExceedsTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = new BlockingEncoder(new CountDownLatch(1), release);
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 1, 1, 50, registry)) {
+            assertThatThrownBy(() -> encoder.matches("a", "a")).isInstanceOf(TooManyRequestsException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("homemate.auth.password.pool.queued").gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("queued task not observed");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ganzithon.homemate.security;
+
+import com.ganzithon.homemate.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// IP 시도 / 아이디 실패 sliding window
+class LoginAttemptLimiterTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final LoginAttemptLimiter limiter =
+            new LoginAttemptLimiter(clock, 3, Duration.ofSeconds(60), 2, Duration.ofSeconds(300));
+
+    @Test
+    void limitsAttemptsPerIpWithinSlidingWindow() {
+        limiter.acquire("a", "10.0.0.1");
+        clock.advance(Duration.ofSeconds(20));
+        limiter.acquire("b", "10.0.0.1");
+        limiter.acquire("c", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.acquire("d", "10.0.0.1"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(40));
+        // 다른 IP 는 영향 없음
+        assertThatCode(() -> limiter.acquire("d", "10.0.0.2")).doesNotThrowAnyException();
+
+        // 첫 시도가 창 밖으로 나가면 한 번 더 가능
+        clock.advance(Duration.ofSeconds(40));
+        assertThatCode(() -> limiter.acquire("d", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void limitsFailuresPerAccountAcrossIpsAndResetsOnSuccess() {
+        limiter.recordFailure("alice");
+        limiter.recordFailure("alice");
+
+        assertThatThrownBy(() -> limiter.acquire("alice", "10.0.0.9"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.acquire("bob", "10.0.0.9")).doesNotThrowAnyException();
+
+        limiter.reset("alice");
+        assertThatCode(() -> limiter.acquire("alice", "10.0.0.9")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void ipLimitCanBeDisabled() {
+        LoginAttemptLimiter accountOnly =
+                new LoginAttemptLimiter(clock, 0, Duration.ofSeconds(60), 2, Duration.ofSeconds(300));
+
+        // 모두 같은 프록시 IP 로 보여도 IP 기준으로는 막지 않음
+        for (int i = 0; i < 10; i++) {
+            accountOnly.acquire("user" + i, "10.0.0.1");
+        }
+
+        accountOnly.recordFailure("alice");
+        accountOnly.recordFailure("alice");
+        assertThatThrownBy(() -> accountOnly.acquire("alice", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public java.time.ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ganzithon.homemate.security;
+
+import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.entity.UserAccount;
+import com.ganzithon.homemate.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 클레임 → principal (DB 조회 없음) / userId 캐시 적재·만료
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class PrincipalResolverTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void buildsPrincipalFromClaimsWithoutLookup() {
+        PrincipalResolver resolver = new PrincipalResolver(userRepository, "claims", 100, 300);
+
+        // 존재하지 않는 id 라도 검증된 클레임만으로 생성됨 → 조회하지 않았다는 뜻
+        UserPrincipal principal = resolver.resolve(claims(999_999L, "ghost")).orElseThrow();
+
+        assertThat(principal.id()).isEqualTo(999_999L);
+        assertThat(principal.getUsername()).isEqualTo("ghost");
+    }
+
+    @Test
+    void fallsBackToCacheWhenLoginIdClaimIsMissing() {
+        PrincipalResolver resolver = new PrincipalResolver(userRepository, "claims", 100, 300);
+        Long userId = saveUser("alice");
+
+        assertThat(resolver.resolve(claims(userId, null)).orElseThrow().getUsername()).isEqualTo("alice");
+
+        // 캐시에 올라간 뒤에는 row 가 없어도 그대로 사용
+        deleteUser(userId);
+        assertThat(resolver.resolve(claims(userId, null))).isPresent();
+    }
+
+    @Test
+    void expiredEntriesAreLookedUpAgain() {
+        // TTL 0 → 매번 만료, 지워진 계정은 바로 사라짐
+        PrincipalResolver resolver = new PrincipalResolver(userRepository, "cache", 100, 0);
+        Long userId = saveUser("carol");
+
+        assertThat(resolver.resolve(claims(userId, null))).isPresent();
+
+        deleteUser(userId);
+        assertThat(resolver.resolve(claims(userId, null))).isEmpty();
+    }
+
+    @Test
+    void cacheModeIgnoresClaimsAndSkipsMissingUsers() {
+        PrincipalResolver resolver = new PrincipalResolver(userRepository, "cache", 100, 300);
+
+        assertThat(resolver.resolve(claims(999_999L, "ghost"))).isEmpty();
+
+        // 없는 사용자는 캐시하지 않으므로 가입 후 바로 조회됨
+        Long userId = saveUser("bob");
+        assertThat(resolver.resolve(claims(userId, "stale")).orElseThrow().getUsername()).isEqualTo("bob");
+    }
+
+    private Long saveUser(String loginId) {
+        return em.persistFlushFind(User.register(UserAccount.create(loginId, "{noop}pw"))).getId();
+    }
+
+    private void deleteUser(Long userId) {
+        em.remove(em.find(User.class, userId));
+        em.flush();
+        em.clear();
+    }
+
+    private static Claims claims(Long userId, String loginId) {
+        var builder = Jwts.claims().subject(String.valueOf(userId));
+        if (loginId != null) {
+            builder.add(PrincipalResolver.LOGIN_ID_CLAIM, loginId);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.CursorResponse;
+import com.ganzithon.homemate.dto.Post.CreatePostRequest;
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Profile.ActivityItemResponse;
+import com.ganzithon.homemate.dto.Profile.ActivityType;
+import com.ganzithon.homemate.entity.Comment;
+import com.ganzithon.homemate.entity.Post.Post;
+import com.ganzithon.homemate.entity.Post.PostLike;
+import com.ganzithon.homemate.repository.CommentRepository;
+import com.ganzithon.homemate.repository.Post.PostLikeRepository;
+import com.ganzithon.homemate.repository.Post.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내 활동 k-way 병합: 작은 페이지로 끝까지 넘겨도 중복/누락 없이 최신순이어야 함
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import(ActivityService.class)
+class ActivityServiceTest {
+
+    private static final long ME = 1L;
+    private static final long OTHER = 2L;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 7; i++) {
+            Post mine = postRepository.save(Post.create(ME, request(PostCategory.FREE, "mine " + i)));
+            Post others = postRepository.save(Post.create(OTHER, request(PostCategory.POLICY, "others " + i)));
+
+            commentRepository.save(Comment.create(PostCategory.POLICY, others.getId(), ME, "c" + i));
+            commentRepository.save(Comment.create(PostCategory.FREE, mine.getId(), OTHER, "not mine"));
+            if (i % 2 == 0) {
+                postLikeRepository.save(PostLike.create(PostCategory.POLICY, others.getId(), ME));
+            }
+            postLikeRepository.save(PostLike.create(PostCategory.FREE, mine.getId(), OTHER));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void mergedPagesCoverEveryActivityNewestFirst() {
+        List<ActivityItemResponse> walked = walk(null, 3);
+
+        // 글 7 + 댓글 7 + 좋아요 4
+        assertThat(walked).hasSize(18);
+        assertThat(walked).extracting(a -> a.type() + ":" + a.id()).doesNotHaveDuplicates();
+        assertThat(walked).isSortedAccordingTo(Comparator
+                .comparing(ActivityItemResponse::createdAt)
+                .thenComparing(ActivityItemResponse::type)
+                .thenComparing(ActivityItemResponse::id)
+                .reversed());
+        assertThat(walked).containsExactlyElementsOf(walk(null, 100));
+        assertThat(walked).allMatch(a -> a.postTitle() != null);
+    }
+
+    @Test
+    void filtersByType() {
+        assertThat(walk(ActivityType.COMMENT, 2))
+                .hasSize(7)
+                .allMatch(a -> a.type() == ActivityType.COMMENT && a.content().startsWith("c"));
+        assertThat(walk(ActivityType.LIKE, 2))
+                .hasSize(4)
+                .allMatch(a -> a.postTitle().startsWith("others"));
+    }
+
+    private List<ActivityItemResponse> walk(ActivityType type, int size) {
+        List<ActivityItemResponse> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<ActivityItemResponse> page = activityService.getActivities(ME, type, cursor, size);
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(size);
+            all.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    private static CreatePostRequest request(PostCategory category, String title) {
+        CreatePostRequest req = new CreatePostRequest();
+        req.setCategory(category);
+        req.setTitle(title);
+        req.setContent("content");
+        req.setSidoCode("11");
+        req.setSigunguCode("11110");
+        return req;
+    }
+}
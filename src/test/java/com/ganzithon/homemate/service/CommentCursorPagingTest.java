@@ -0,0 +1,67 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.Comment.CommentResponse;
+import com.ganzithon.homemate.dto.CursorResponse;
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.entity.Comment;
+import com.ganzithon.homemate.repository.CommentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 댓글 커서 페이지: 끝까지 넘기면 모든 댓글을 중복/누락 없이 순서대로 받아야 함
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Import({CommentService.class, UserSummaryService.class})
+class CommentCursorPagingTest {
+
+    private static final long POST_ID = 1L;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void walksAllCommentsInOrder() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 47; i++) {
+            expected.add(commentRepository.save(
+                    Comment.create(PostCategory.FREE, POST_ID, 1L, "c" + i)).getId());
+        }
+        // 다른 게시글 댓글은 섞이면 안 됨
+        commentRepository.save(Comment.create(PostCategory.ROOMMATE, POST_ID, 1L, "other"));
+        em.flush();
+        em.clear();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorResponse<CommentResponse> page = commentService.getComments(PostCategory.FREE, POST_ID, cursor, 10);
+            page.getContent().forEach(c -> seen.add(c.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(5);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> commentService.getComments(PostCategory.FREE, POST_ID, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
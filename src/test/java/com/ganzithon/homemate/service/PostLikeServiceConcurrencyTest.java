@@ -0,0 +1,101 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.Post.LikeResponse;
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.repository.Post.PostLikeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시 좋아요/취소 스트레스 테스트
+// - 같은 사용자의 연타(double-tap)에도 유니크 제약 예외가 나지 않아야 함
+// - 최종 좋아요 수는 서로 다른 사용자 수와 같아야 함
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:likes;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PostLikeService.class)
+class PostLikeServiceConcurrencyTest {
+
+    private static final int USERS = 40;
+    private static final int TAPS_PER_USER = 5;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Test
+    void concurrentLikesAndUnlikesNeverViolateUniqueConstraint() throws Exception {
+        long postId = 42L;
+
+        List<LikeResponse> liked = runConcurrently(userId -> () ->
+                postLikeService.like(PostCategory.FREE, postId, userId));
+
+        assertThat(liked).allMatch(LikeResponse::liked);
+        assertThat(liked).allMatch(r -> r.likeCount() >= 1 && r.likeCount() <= USERS);
+        assertThat(postLikeRepository.countByCategoryAndPostId(PostCategory.FREE, postId)).isEqualTo(USERS);
+
+        List<LikeResponse> unliked = runConcurrently(userId -> () ->
+                postLikeService.unlike(PostCategory.FREE, postId, userId));
+
+        assertThat(unliked).noneMatch(LikeResponse::liked);
+        assertThat(postLikeRepository.countByCategoryAndPostId(PostCategory.FREE, postId)).isZero();
+    }
+
+    @Test
+    void likeIsIdempotentAndReturnsCount() {
+        long postId = 7L;
+
+        assertThat(postLikeService.like(PostCategory.POLICY, postId, 1L)).isEqualTo(new LikeResponse(true, 1));
+        assertThat(postLikeService.like(PostCategory.POLICY, postId, 1L)).isEqualTo(new LikeResponse(true, 1));
+        assertThat(postLikeService.like(PostCategory.POLICY, postId, 2L)).isEqualTo(new LikeResponse(true, 2));
+        assertThat(postLikeService.unlike(PostCategory.POLICY, postId, 1L)).isEqualTo(new LikeResponse(false, 1));
+        assertThat(postLikeService.unlike(PostCategory.POLICY, postId, 1L)).isEqualTo(new LikeResponse(false, 1));
+    }
+
+    // 사용자마다 TAPS_PER_USER 번씩, 전부 동시에 시작
+    private List<LikeResponse> runConcurrently(
+            LongFunction<Callable<LikeResponse>> action
+    ) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<LikeResponse>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (long userId = 1; userId <= USERS; userId++) {
+                for (int tap = 0; tap < TAPS_PER_USER; tap++) {
+                    Callable<LikeResponse> call = action.apply(userId);
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return call.call();
+                    }));
+                }
+            }
+            start.countDown();
+
+            List<LikeResponse> results = new ArrayList<>();
+            for (Future<LikeResponse> future : futures) {
+                results.add(future.get()); // 제약 위반 등 예외가 있으면 여기서 실패
+            }
+            return results;
+        }
+    }
+}
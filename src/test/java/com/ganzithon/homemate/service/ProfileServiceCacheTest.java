@@ -0,0 +1,118 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.Profile.ProfileResponse;
+import com.ganzithon.homemate.dto.Profile.ProfileUpdateRequest;
+import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.entity.UserAccount;
+import com.ganzithon.homemate.repository.UserRepository;
+import com.ganzithon.homemate.service.image.AvatarImageWriter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 프로필 조회: 캐시 적중 시 DB/디스크 접근 없음, 수정 커밋 후 다시 조립
+// (캐시 제거가 커밋 후에 일어나므로 테스트 트랜잭션은 끔)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "uploadPath=build/tmp/profile-cache-test"
+})
+@Import({ProfileService.class, AvatarImageWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProfileServiceCacheTest {
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void repeatedReadsAreServedFromCache() {
+        Long userId = saveUser(null);
+
+        ProfileResponse first = profileService.getProfile(userId);
+        stats.clear();
+        ProfileResponse second = profileService.getProfile(userId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(stats.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void imageUrlComesFromStoredPathWithoutCheckingDisk() {
+        // 디스크에 파일이 없어도 DB 에 경로가 있으면 이미지 URL
+        Long userId = saveUser("profiles/not-on-disk.png");
+
+        assertThat(profileService.getProfile(userId).profileImageUrl())
+                .isEqualTo("/api/profile/image/" + userId);
+    }
+
+    @Test
+    void updateEvictsCachedProfileAfterCommit() {
+        Long userId = saveUser(null);
+        profileService.getProfile(userId);
+
+        ProfileResponse updated = profileService.updateProfile(
+                userId, new ProfileUpdateRequest("서울 마포구", null, "안녕하세요"), null);
+
+        assertThat(updated.desiredArea()).isEqualTo("서울 마포구");
+        assertThat(profileService.getProfile(userId)).isEqualTo(updated);
+
+        profileService.deleteProfileContent(userId);
+        assertThat(profileService.getProfile(userId).desiredArea()).isNull();
+    }
+
+    @Test
+    void batchLoadsOnlyUncachedProfilesInOneQuery() {
+        Long cached = saveUser(null);
+        Long first = saveUser(null);
+        Long second = saveUser(null);
+        ProfileResponse cachedProfile = profileService.getProfile(cached);
+
+        stats.clear();
+        Map<Long, ProfileResponse> profiles = profileService.getProfiles(List.of(cached, first, second, 999_999L));
+
+        assertThat(profiles).containsOnlyKeys(cached, first, second);
+        assertThat(profiles.get(cached)).isSameAs(cachedProfile);
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        assertThatThrownBy(() -> profileService.getProfile(999_999L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> profileService.getProfile(999_999L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Long saveUser(String profileImagePath) {
+        User user = User.register(UserAccount.create("u-" + UUID.randomUUID().toString().substring(0, 8), "{noop}pw"));
+        user.updateProfileImagePath(profileImagePath);
+        return userRepository.save(user).getId();
+    }
+}
@@ -0,0 +1,130 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.entity.UserAccount;
+import com.ganzithon.homemate.repository.UserRepository;
+import com.ganzithon.homemate.service.image.AvatarImageWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 아바타 파일은 트랜잭션 결과에 맞춰 정리
+// - 커밋: 기존 파일 삭제 / 롤백: 새로 쓴 파일 삭제, 기존 파일 유지
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "uploadPath=build/tmp/profile-image-files-test"
+})
+@Import({ProfileService.class, AvatarImageWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProfileServiceImageFilesTest {
+
+    private static final Path PROFILES = Path.of("build/tmp/profile-image-files-test/profiles");
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(PROFILES);
+    }
+
+    @Test
+    void replacedImageIsDeletedAfterCommit() throws IOException {
+        Long userId = saveUser();
+        String first = updateImage(userId);
+        String second = updateImage(userId);
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(avatarFiles()).allMatch(name -> name.startsWith(baseOf(second))).hasSize(2);
+    }
+
+    @Test
+    void rolledBackReplacementKeepsOldImageAndRemovesNewFiles() throws IOException {
+        Long userId = saveUser();
+        String first = updateImage(userId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            updateImage(userId);
+            status.setRollbackOnly();
+        });
+
+        assertThat(userRepository.findProfileImagePathById(userId)).contains(first);
+        assertThat(avatarFiles()).allMatch(name -> name.startsWith(baseOf(first))).hasSize(2);
+    }
+
+    @Test
+    void rolledBackDeleteKeepsImage() throws IOException {
+        Long userId = saveUser();
+        String first = updateImage(userId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            profileService.deleteProfileImage(userId);
+            status.setRollbackOnly();
+        });
+        assertThat(avatarFiles()).hasSize(2);
+
+        profileService.deleteProfileImage(userId);
+        assertThat(avatarFiles()).isEmpty();
+        assertThat(userRepository.findProfileImagePathById(userId)).isEmpty();
+    }
+
+    private String updateImage(Long userId) {
+        profileService.updateProfile(userId, null, new MockMultipartFile("profileImage", "a.png", "image/png", png()));
+        return userRepository.findProfileImagePathById(userId).orElseThrow();
+    }
+
+    private List<String> avatarFiles() throws IOException {
+        if (!Files.isDirectory(PROFILES)) {
+            return List.of();
+        }
+        try (var files = Files.list(PROFILES)) {
+            return files.map(p -> p.getFileName().toString()).toList();
+        }
+    }
+
+    // profiles/7_uuid-320.jpg → 7_uuid
+    private static String baseOf(String imagePath) {
+        String name = imagePath.substring(imagePath.lastIndexOf('/') + 1);
+        return name.substring(0, name.lastIndexOf('-'));
+    }
+
+    private Long saveUser() {
+        User user = User.register(UserAccount.create("u-" + UUID.randomUUID().toString().substring(0, 8), "{noop}pw"));
+        return userRepository.save(user).getId();
+    }
+
+    private static byte[] png() {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.Login.LoginResponse;
+import com.ganzithon.homemate.entity.RevokedAccessToken;
+import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.entity.UserAccount;
+import com.ganzithon.homemate.jwt.JwtProperties;
+import com.ganzithon.homemate.jwt.JwtTokenProvider;
+import com.ganzithon.homemate.repository.RefreshTokenRepository;
+import com.ganzithon.homemate.repository.RevokedAccessTokenRepository;
+import com.ganzithon.homemate.repository.UserRepository;
+import com.ganzithon.homemate.security.AccessTokenDenylist;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// refresh token 회전 / 재사용 감지 / 로그아웃 / denylist 동기화
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private JwtTokenProvider tokenProvider;
+    private AccessTokenDenylist denylist;
+    private RefreshTokenService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setAccessTokenSecret("aG9tZW1hdGUtdGVzdC1zZWNyZXQtaG9tZW1hdGUtdGVzdCE=");
+        tokenProvider = new JwtTokenProvider(props);
+        tokenProvider.init();
+
+        denylist = new AccessTokenDenylist(revokedAccessTokenRepository);
+        service = new RefreshTokenService(refreshTokenRepository, userRepository, tokenProvider, props, denylist);
+        user = em.persistFlushFind(User.register(UserAccount.create("alice", "{noop}pw")));
+    }
+
+    @Test
+    void rotationIssuesNewPairAndRetiresOldRefreshToken() {
+        LoginResponse login = service.issue(user);
+        LoginResponse rotated = service.rotate(login.refreshToken());
+
+        assertThat(rotated.refreshToken()).isNotEqualTo(login.refreshToken());
+        assertThat(jti(rotated.accessToken())).isNotEqualTo(jti(login.accessToken()));
+        assertThat(tokenProvider.parseAccess(rotated.accessToken()).getSubject()).isEqualTo(String.valueOf(user.getId()));
+        assertThat(denylist.isRevoked(jti(rotated.accessToken()))).isFalse();
+    }
+
+    @Test
+    void reusedRefreshTokenRevokesWholeFamily() {
+        LoginResponse login = service.issue(user);
+        LoginResponse rotated = service.rotate(login.refreshToken());
+        em.clear();
+
+        assertThatThrownBy(() -> service.rotate(login.refreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+        em.clear();
+
+        // 정상 사용자 쪽 최신 토큰도 함께 폐기됨
+        assertThatThrownBy(() -> service.rotate(rotated.refreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(denylist.isRevoked(jti(login.accessToken()))).isTrue();
+        assertThat(denylist.isRevoked(jti(rotated.accessToken()))).isTrue();
+    }
+
+    @Test
+    void logoutRevokesOnlyThatLogin() {
+        LoginResponse phone = service.issue(user);
+        LoginResponse laptop = service.issue(user);
+
+        service.revoke(phone.refreshToken());
+        em.clear();
+
+        assertThatThrownBy(() -> service.rotate(phone.refreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(denylist.isRevoked(jti(phone.accessToken()))).isTrue();
+        assertThat(service.rotate(laptop.refreshToken()).accessToken()).isNotBlank();
+    }
+
+    @Test
+    void syncLoadsRevocationsFromOtherInstancesAndDropsExpired() {
+        revokedAccessTokenRepository.save(RevokedAccessToken.of("live", Instant.now().plusSeconds(600)));
+        revokedAccessTokenRepository.save(RevokedAccessToken.of("dead", Instant.now().minusSeconds(1)));
+        em.flush();
+
+        AccessTokenDenylist other = new AccessTokenDenylist(revokedAccessTokenRepository);
+        other.sync();
+
+        assertThat(other.isRevoked("live")).isTrue();
+        assertThat(other.isRevoked("dead")).isFalse();
+        em.clear();
+        assertThat(revokedAccessTokenRepository.findById("dead")).isEmpty();
+    }
+
+    private String jti(String accessToken) {
+        return tokenProvider.parseAccess(accessToken).getId();
+    }
+}
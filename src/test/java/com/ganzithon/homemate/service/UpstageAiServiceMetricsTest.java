@@ -0,0 +1,61 @@
+package com.ganzithon.homemate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class UpstageAiServiceMetricsTest {
+
+    private static final String API_URL = "https://ai.test/v1/chat/completions";
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UpstageAiService service = new UpstageAiService(restTemplate, registry);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "apiUrl", API_URL);
+        ReflectionTestUtils.setField(service, "apiKey", "test-key");
+        ReflectionTestUtils.setField(service, "model", "test-model");
+    }
+
+    @Test
+    void recordsLatencyWithOutcome() {
+        String content = "{\\\"recommendations\\\": [{\\\"rank\\\": 1, \\\"hsmpSn\\\": \\\"100\\\", \\\"reason\\\": \\\"가까움\\\"}]}";
+        server.expect(requestTo(API_URL)).andRespond(withSuccess(
+                "{\"choices\": [{\"finish_reason\": \"stop\", \"message\": {\"content\": \"" + content + "\"}}]}",
+                MediaType.APPLICATION_JSON));
+        server.expect(requestTo(API_URL)).andRespond(withSuccess("{\"choices\": []}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(API_URL)).andRespond(withServerError());
+
+        List<Map<String, Object>> data = List.of(Map.of("hsmpSn", "100"));
+
+        assertThat(service.getRecommendations("역 근처", data))
+                .extracting(UpstageAiService.RecommendationResult::getHsmpSn)
+                .containsExactly("100");
+        assertThat(service.getRecommendations("역 근처", data)).isEmpty();
+        assertThatThrownBy(() -> service.getRecommendations("역 근처", data))
+                .isInstanceOf(RuntimeException.class);
+
+        for (String outcome : List.of("success", "empty", "error")) {
+            assertThat(registry.get("homemate.upstream.ai").tag("outcome", outcome).timer().count())
+                    .as(outcome)
+                    .isEqualTo(1);
+        }
+        server.verify();
+    }
+}
@@ -0,0 +1,104 @@
+package com.ganzithon.homemate.service;
+
+import com.ganzithon.homemate.dto.UserSummary;
+import com.ganzithon.homemate.entity.User;
+import com.ganzithon.homemate.entity.UserAccount;
+import com.ganzithon.homemate.event.ProfileChangedEvent;
+import com.ganzithon.homemate.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 작성자 요약: 캐시에 없는 id 만 한 번에 조회 / 프로필 변경 시 제거 / TTL 만료
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(UserSummaryService.class)
+class UserSummaryServiceTest {
+
+    @Autowired
+    private UserSummaryService userSummaryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void loadsOnlyMissesInOneQueryAndServesHitsFromCache() {
+        Long alice = saveUser("alice", "profiles/alice.png");
+        Long bob = saveUser("bob", null);
+        Long carol = saveUser("carol", null);
+
+        stats.clear();
+        Map<Long, UserSummary> first = userSummaryService.getAll(List.of(alice, bob, 999_999L));
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(first).containsOnlyKeys(alice, bob);
+        assertThat(first.get(alice)).isEqualTo(new UserSummary(alice, "alice", "/api/profile/image/" + alice + "?size=small"));
+        assertThat(first.get(bob).profileImageUrl()).isNull();
+
+        // alice, bob 은 캐시 → carol 만 조회
+        stats.clear();
+        Map<Long, UserSummary> second = userSummaryService.getAll(List.of(alice, bob, carol));
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(second).containsOnlyKeys(alice, bob, carol);
+
+        stats.clear();
+        assertThat(userSummaryService.get(carol).loginId()).isEqualTo("carol");
+        assertThat(stats.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void profileChangeEvictsCachedSummary() {
+        Long alice = saveUser("alice", null);
+        assertThat(userSummaryService.get(alice).profileImageUrl()).isNull();
+
+        em.find(User.class, alice).updateProfileImagePath("profiles/new.png");
+        em.flush();
+        assertThat(userSummaryService.get(alice).profileImageUrl()).isNull();
+
+        userSummaryService.onProfileChanged(ProfileChangedEvent.of(alice));
+        assertThat(userSummaryService.get(alice).profileImageUrl()).isEqualTo("/api/profile/image/" + alice + "?size=small");
+    }
+
+    @Test
+    void expiredSummaryIsReloadedWithoutEvent() {
+        // 다른 인스턴스에서 바뀐 프로필 (이 인스턴스에는 이벤트가 오지 않음) → TTL 만료 후 반영
+        UserSummaryService shortLived = new UserSummaryService(userRepository, 100, 0);
+        Long alice = saveUser("alice", null);
+        assertThat(shortLived.get(alice).profileImageUrl()).isNull();
+
+        em.find(User.class, alice).updateProfileImagePath("profiles/new.png");
+        em.flush();
+        assertThat(shortLived.get(alice).profileImageUrl()).isEqualTo("/api/profile/image/" + alice + "?size=small");
+    }
+
+    private Long saveUser(String loginId, String profileImagePath) {
+        User user = User.register(UserAccount.create(loginId, "{noop}pw"));
+        user.updateProfileImagePath(profileImagePath);
+        return em.persistFlushFind(user).getId();
+    }
+}
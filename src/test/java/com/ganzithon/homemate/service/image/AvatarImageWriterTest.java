@@ -0,0 +1,109 @@
+package com.ganzithon.homemate.service.image;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 프로필 업로드: magic bytes 확인 / 크기 제한 / 정사각형 아바타 저장
+class AvatarImageWriterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void storesSquareAvatarsForEverySizeAndNoOriginal() throws IOException {
+        AvatarImageWriter writer = new AvatarImageWriter(10 * 1024 * 1024);
+
+        // 확장자/Content-Type 이 틀려도 내용이 PNG 면 허용
+        writer.write(upload("photo.txt", "text/plain", png(1200, 800)), dir, "7_abc");
+
+        BufferedImage large = ImageIO.read(dir.resolve("7_abc-320.jpg").toFile());
+        BufferedImage small = ImageIO.read(dir.resolve("7_abc-96.jpg").toFile());
+        assertThat(large.getWidth()).isEqualTo(320);
+        assertThat(large.getHeight()).isEqualTo(320);
+        assertThat(small.getWidth()).isEqualTo(96);
+        assertThat(small.getHeight()).isEqualTo(96);
+        assertThat(fileNames()).containsExactlyInAnyOrder("7_abc-320.jpg", "7_abc-96.jpg");
+    }
+
+    @Test
+    void rejectsContentThatIsNotAnImage() throws IOException {
+        AvatarImageWriter writer = new AvatarImageWriter(10 * 1024 * 1024);
+        byte[] html = "<html><script>alert(1)</script></html>".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> writer.write(upload("evil.png", "image/png", html), dir, "7_abc"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(fileNames()).isEmpty();
+    }
+
+    @Test
+    void stopsStreamingOnceLimitIsExceeded() throws IOException {
+        byte[] png = png(1200, 800);
+        AvatarImageWriter writer = new AvatarImageWriter(png.length - 1);
+
+        // 크기를 알 수 없는 업로드처럼 getSize() 를 속여도 복사 중에 중단
+        MockMultipartFile sizeless = new MockMultipartFile("profileImage", "a.png", "image/png", png) {
+            @Override
+            public long getSize() {
+                return 0;
+            }
+        };
+
+        assertThatThrownBy(() -> writer.write(sizeless, dir, "7_abc"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(fileNames()).isEmpty();
+    }
+
+    @Test
+    void detectsFormatFromMagicBytes() {
+        assertThat(ImageFormat.detect(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0}))
+                .contains(ImageFormat.JPEG);
+        assertThat(ImageFormat.detect("GIF89a".getBytes(StandardCharsets.US_ASCII))).contains(ImageFormat.GIF);
+        assertThat(ImageFormat.detect("RIFF".getBytes(StandardCharsets.US_ASCII))).isEmpty();
+        assertThat(ImageFormat.detect(new byte[0])).isEmpty();
+    }
+
+    @Test
+    void resolvesSizePathsAndKeepsLegacyOriginals() {
+        assertThat(AvatarSize.SMALL.resolve("profiles/7_abc-320.jpg")).isEqualTo("profiles/7_abc-96.jpg");
+        assertThat(AvatarSize.LARGE.resolve("profiles/7_abc-320.jpg")).isEqualTo("profiles/7_abc-320.jpg");
+        assertThat(AvatarSize.SMALL.resolve("profiles/7_abc.jpg")).isEqualTo("profiles/7_abc.jpg");
+        assertThat(AvatarSize.fromParam("small")).isEqualTo(AvatarSize.SMALL);
+        assertThat(AvatarSize.fromParam(null)).isEqualTo(AvatarSize.LARGE);
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString()).toList();
+        }
+    }
+
+    private static MockMultipartFile upload(String name, String contentType, byte[] content) {
+        return new MockMultipartFile("profileImage", name, contentType, content);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        var g = img.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+package com.ganzithon.homemate.service.image;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageResizerTest {
+
+    @Test
+    void producesJpegVariantsWithinMaxSide() throws IOException {
+        byte[] png = encode(image(2400, 1600), "png");
+
+        Map<ImageVariant, byte[]> variants = ImageResizer.resize(png);
+
+        BufferedImage thumb = decode(variants.get(ImageVariant.THUMBNAIL));
+        assertThat(thumb.getWidth()).isEqualTo(320);
+        assertThat(thumb.getHeight()).isEqualTo(213);
+
+        BufferedImage medium = decode(variants.get(ImageVariant.MEDIUM));
+        assertThat(medium.getWidth()).isEqualTo(1080);
+        assertThat(medium.getHeight()).isEqualTo(720);
+
+        // JPEG SOI
+        assertThat(variants.get(ImageVariant.MEDIUM)[0]).isEqualTo((byte) 0xFF);
+        assertThat(variants.get(ImageVariant.MEDIUM)[1]).isEqualTo((byte) 0xD8);
+    }
+
+    @Test
+    void doesNotUpscaleSmallImages() throws IOException {
+        byte[] png = encode(image(100, 50), "png");
+
+        BufferedImage medium = decode(ImageResizer.resize(png).get(ImageVariant.MEDIUM));
+
+        assertThat(medium.getWidth()).isEqualTo(100);
+        assertThat(medium.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void appliesOrientationAndStripsExif() throws IOException {
+        // 가로로 저장됐지만 EXIF 상 90도 회전(6)인 사진
+        byte[] jpeg = withExifOrientation(encode(image(400, 200), "jpeg"), 6);
+
+        Map<ImageVariant, byte[]> variants = ImageResizer.resize(jpeg);
+
+        BufferedImage medium = decode(variants.get(ImageVariant.MEDIUM));
+        assertThat(medium.getWidth()).isEqualTo(200);
+        assertThat(medium.getHeight()).isEqualTo(400);
+
+        for (byte[] bytes : variants.values()) {
+            assertThat(new String(bytes, StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+        }
+    }
+
+    @Test
+    void rejectsNonImage() {
+        assertThatThrownBy(() -> ImageResizer.resize("not an image".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static BufferedImage image(int width, int height) {
+        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        var g = img.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return img;
+    }
+
+    private static byte[] encode(BufferedImage img, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(img, format, out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    // SOI 바로 뒤에 Orientation 태그 하나만 있는 APP1(Exif) 세그먼트 삽입
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'I', 'I', 0x2A, 0x00, 0x08, 0x00, 0x00, 0x00,   // little endian, IFD0 offset 8
+                0x01, 0x00,                                     // 항목 1개
+                0x12, 0x01, 0x03, 0x00, 0x01, 0x00, 0x00, 0x00, // 0x0112 Orientation, SHORT, 1개
+                (byte) orientation, 0x00, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00                          // 다음 IFD 없음
+        };
+        byte[] header = {'E', 'x', 'i', 'f', 0x00, 0x00};
+        int length = 2 + header.length + tiff.length;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(header);
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,136 @@
+package com.ganzithon.homemate.service.image;
+
+import com.ganzithon.homemate.service.storage.ImageStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+// 변환 도중 실패하면 이미 저장한 변환본을 지우고 예외를 삼키는지 검증
+class ImageVariantServiceTest {
+
+    private static final String URL = "/uploads/free/a.png";
+
+    private final FakeStorage storage = new FakeStorage();
+    private ImageVariantService service;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.shutdown();
+    }
+
+    @Test
+    void deletesThumbnailWhenMediumSaveFails() {
+        storage.failOnSuffix = ImageVariant.MEDIUM.suffix();
+        service = new ImageVariantService(null, storage, new FailingTransactionManager(), 1, 1);
+
+        assertThatCode(() -> service.generate(1L, URL)).doesNotThrowAnyException();
+
+        assertThat(storage.saved).containsExactly("/uploads/free/a_thumb.jpg");
+        assertThat(storage.deleted).containsExactly("/uploads/free/a_thumb.jpg");
+    }
+
+    @Test
+    void deletesAllVariantsWhenUpdateFails() {
+        service = new ImageVariantService(null, storage, new FailingTransactionManager(), 1, 1);
+
+        assertThatCode(() -> service.generate(1L, URL)).doesNotThrowAnyException();
+
+        assertThat(storage.deleted)
+                .containsExactly("/uploads/free/a_thumb.jpg", "/uploads/free/a_medium.jpg");
+    }
+
+    private static byte[] png() {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB), "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class FakeStorage implements ImageStorage {
+
+        private final List<String> saved = new ArrayList<>();
+        private final List<String> deleted = new ArrayList<>();
+        private String failOnSuffix;
+
+        @Override
+        public byte[] readImage(String url) {
+            return png();
+        }
+
+        @Override
+        public String saveVariant(String originalUrl, String suffix, byte[] jpeg) {
+            if (suffix.equals(failOnSuffix)) {
+                throw new IllegalStateException("disk full");
+            }
+            String url = originalUrl.substring(0, originalUrl.lastIndexOf('.')) + "_" + suffix + ".jpg";
+            saved.add(url);
+            return url;
+        }
+
+        @Override
+        public void deleteVariant(String url) {
+            deleted.add(url);
+        }
+
+        @Override
+        public String uploadRoommateImage(MultipartFile file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String uploadFreeImage(MultipartFile file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String uploadPolicyImage(MultipartFile file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteRoommateImage(String url) {
+        }
+
+        @Override
+        public void deleteFreeImage(String url) {
+        }
+
+        @Override
+        public void deletePolicyImage(String url) {
+        }
+    }
+
+    private static final class FailingTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            throw new CannotCreateTransactionException("db down");
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ganzithon.homemate.service.matching;
+
+import com.ganzithon.homemate.service.region.RegionDirectory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoommateIndexTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2026, 3, 1);
+    private static final Instant NOW = Instant.parse("2026-02-01T00:00:00Z");
+
+    private final RoommateIndex index = new RoommateIndex(60);
+
+    @Test
+    void parsesFreeTextAreaIntoRegionCodes() {
+        RegionDirectory.Area area = RegionDirectory.parse("서울시 마포구, 서대문");
+        assertThat(area.sidoCodes()).containsExactly("11");
+        assertThat(area.districtKeys()).containsExactlyInAnyOrder("11-440", "11-410");
+
+        // 시도를 적으면 같은 이름의 다른 시도 구는 제외
+        assertThat(RegionDirectory.parse("부산 중구").districtKeys()).containsExactly("26-110");
+        assertThat(RegionDirectory.parse("중구").sidoCodes()).contains("11", "26", "27");
+
+        // 경기 광주시는 광주광역시가 아님
+        assertThat(RegionDirectory.parse("광주시").districtKeys()).containsExactly("41-159");
+        assertThat(RegionDirectory.parse("광주").sidoCodes()).containsExactly("29");
+
+        assertThat(RegionDirectory.parse("아무데나").isEmpty()).isTrue();
+    }
+
+    @Test
+    void ranksUsersByAreaOverlapThenMoveInProximity() {
+        index.putUser(1L, RegionDirectory.parse("서울 마포구"), MARCH);
+        index.putUser(2L, RegionDirectory.parse("마포구"), MARCH.plusDays(30));   // 같은 구, 30일 차이
+        index.putUser(3L, RegionDirectory.parse("서울 강남구"), MARCH);           // 같은 시도, 같은 날
+        index.putUser(4L, RegionDirectory.parse("마포구"), MARCH.plusDays(90));   // 입주일 window 밖
+        index.putUser(5L, RegionDirectory.parse("부산 해운대구"), MARCH);         // 다른 시도
+        index.putUser(6L, RegionDirectory.parse("서울 마포구"), null);            // 입주일 미정 (날짜 점수 0)
+
+        assertThat(index.matchUsers(1L, 10))
+                .extracting(RoommateIndex.Match::id)
+                .containsExactly(2L, 3L, 6L);
+        assertThat(index.matchUsers(1L, 1)).hasSize(1);
+        assertThat(index.matchUsers(99L, 10)).isEmpty();
+    }
+
+    @Test
+    void postsFollowWriterMoveInDateAndExcludeOwnPosts() {
+        index.putUser(1L, RegionDirectory.parse("서울 마포구"), MARCH);
+        index.putUser(2L, RegionDirectory.Area.EMPTY, MARCH.plusDays(120));
+
+        index.putPost(10L, 2L, RegionDirectory.of("11", "440"), NOW);
+        index.putPost(11L, 1L, RegionDirectory.of("11", "440"), NOW);
+        index.putPost(12L, 3L, RegionDirectory.of("11", "680"), NOW);
+
+        // 10 은 작성자 입주일이 window 밖, 11 은 내 글
+        assertThat(index.matchPosts(1L, 10)).extracting(RoommateIndex.Match::id).containsExactly(12L);
+
+        // 작성자가 입주일을 당기면 글도 같이 매칭
+        index.putUser(2L, RegionDirectory.Area.EMPTY, MARCH);
+        assertThat(index.matchPosts(1L, 10)).extracting(RoommateIndex.Match::id).containsExactly(10L, 12L);
+
+        // 다른 지역으로 수정 / 삭제
+        index.putPost(10L, 2L, RegionDirectory.of("26", "350"), NOW);
+        assertThat(index.matchPosts(1L, 10)).extracting(RoommateIndex.Match::id).containsExactly(12L);
+        index.removePost(12L);
+        assertThat(index.matchPosts(1L, 10)).isEmpty();
+    }
+
+    @Test
+    void removedUserIsNoLongerMatched() {
+        index.putUser(1L, RegionDirectory.parse("서울"), MARCH);
+        index.putUser(2L, RegionDirectory.parse("서울"), MARCH);
+        assertThat(index.matchUsers(1L, 10)).extracting(RoommateIndex.Match::id).containsExactly(2L);
+
+        index.removeUser(2L);
+        assertThat(index.matchUsers(1L, 10)).isEmpty();
+        assertThat(index.userCount()).isEqualTo(1);
+    }
+}
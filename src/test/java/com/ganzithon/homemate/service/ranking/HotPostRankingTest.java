@@ -0,0 +1,72 @@
+package com.ganzithon.homemate.service.ranking;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotPostRankingTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private final HotPostRanking ranking = new HotPostRanking(Duration.ofHours(12));
+
+    @Test
+    void engagementRaisesRankAndOlderPostsDecay() {
+        ranking.track(1L, PostCategory.FREE, "11", NOW.minus(Duration.ofHours(24)));
+        ranking.track(2L, PostCategory.FREE, "11", NOW.minus(Duration.ofHours(1)));
+        ranking.track(3L, PostCategory.FREE, "26", NOW);
+
+        // 가장 최근 글이 먼저
+        assertThat(ranking.top(PostCategory.FREE, null, 10)).containsExactly(3L, 2L, 1L);
+
+        // 하루 지난 글도 반응이 많으면 올라옴 (반감기 2번 → 가중치 1/4)
+        ranking.addWeight(1L, 100 * HotPostRanking.VIEW_WEIGHT, NOW.minus(Duration.ofHours(24)));
+        assertThat(ranking.top(PostCategory.FREE, null, 10)).containsExactly(1L, 3L, 2L);
+
+        // 같은 반응이라도 지금 일어난 쪽이 더 큼
+        ranking.addWeight(2L, 100 * HotPostRanking.VIEW_WEIGHT, NOW);
+        assertThat(ranking.top(PostCategory.FREE, null, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void keepsPerRegionBoardsAndFollowsMoves() {
+        ranking.track(1L, PostCategory.FREE, "11", NOW);
+        ranking.track(2L, PostCategory.FREE, "26", NOW);
+        ranking.track(3L, PostCategory.POLICY, null, NOW);
+
+        assertThat(ranking.top(PostCategory.FREE, "11", 10)).containsExactly(1L);
+        assertThat(ranking.top(PostCategory.POLICY, null, 10)).containsExactly(3L);
+
+        // 게시판/지역 이동
+        ranking.track(1L, PostCategory.ROOMMATE, "26", NOW);
+        assertThat(ranking.top(PostCategory.FREE, "11", 10)).isEmpty();
+        assertThat(ranking.top(PostCategory.FREE, null, 10)).containsExactly(2L);
+        assertThat(ranking.top(PostCategory.ROOMMATE, "26", 10)).containsExactly(1L);
+
+        ranking.remove(2L);
+        assertThat(ranking.top(PostCategory.FREE, null, 10)).isEmpty();
+    }
+
+    @Test
+    void likeCountIsAppliedAsDifference() {
+        ranking.track(1L, PostCategory.FREE, "11", NOW);
+        ranking.track(2L, PostCategory.FREE, "11", NOW);
+        ranking.updateLikeCount(2L, 3, NOW);
+
+        // 같은 수를 여러 번 받아도 한 번만 반영
+        ranking.updateLikeCount(1L, 3, NOW);
+        ranking.updateLikeCount(1L, 3, NOW);
+        ranking.updateLikeCount(1L, 3, NOW);
+        ranking.addWeight(2L, 0.5, NOW);
+
+        assertThat(ranking.top(PostCategory.FREE, null, 10)).containsExactly(2L, 1L);
+
+        // 취소되면 다시 내려감
+        ranking.updateLikeCount(2L, 0, NOW);
+        assertThat(ranking.top(PostCategory.FREE, null, 10)).containsExactly(1L, 2L);
+    }
+}
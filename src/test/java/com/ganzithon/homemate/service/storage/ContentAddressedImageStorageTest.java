@@ -0,0 +1,124 @@
+package com.ganzithon.homemate.service.storage;
+
+import com.ganzithon.homemate.repository.ImageBlobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 내용은 파일 하나 + 참조 수, 마지막 참조가 사라질 때만 파일 삭제
+// (저장소가 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션은 끔)
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContentAddressedImageStorageTest {
+
+    @Autowired
+    private ImageBlobRepository imageBlobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path uploadDir;
+
+    private ContentAddressedImageStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ContentAddressedImageStorage(imageBlobRepository, transactionManager, uploadDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageBlobRepository.deleteAll();
+    }
+
+    @Test
+    void identicalUploadsShareOneFileAcrossBoards() throws IOException {
+        String first = storage.uploadFreeImage(file("a.PNG", "same bytes"));
+        String second = storage.uploadRoommateImage(file("b.png", "same bytes"));
+        String other = storage.uploadFreeImage(file("c.png", "other bytes"));
+
+        assertThat(first).isEqualTo(second).startsWith("/uploads/blob/").endsWith(".png");
+        assertThat(other).isNotEqualTo(first);
+        try (var files = Files.list(uploadDir.resolve("blob"))) {
+            assertThat(files.filter(p -> !p.getFileName().toString().endsWith(".tmp"))).hasSize(2);
+        }
+        assertThat(imageBlobRepository.findAll())
+                .extracting(b -> b.getRefCount())
+                .containsExactlyInAnyOrder(2, 1);
+    }
+
+    @Test
+    void deletesFileAndVariantsOnlyWhenLastReferenceIsReleased() {
+        String url = storage.uploadFreeImage(file("a.jpg", "photo"));
+        storage.uploadPolicyImage(file("a.jpg", "photo"));
+        String thumb = storage.saveVariant(url, "thumb", new byte[]{1});
+
+        Path original = fileOf(url);
+        Path thumbFile = fileOf(thumb);
+
+        storage.deleteFreeImage(url);
+        storage.deleteVariant(thumb); // 공유 변환본은 남아야 함
+        assertThat(original).exists();
+        assertThat(thumbFile).exists();
+
+        storage.deletePolicyImage(url);
+        assertThat(original).doesNotExist();
+        assertThat(thumbFile).doesNotExist();
+        assertThat(imageBlobRepository.count()).isZero();
+
+        // 이미 지워진 blob 을 다시 지워도 무시
+        storage.deleteFreeImage(url);
+        assertThat(imageBlobRepository.count()).isZero();
+    }
+
+    @Test
+    void reuploadAfterReleaseStoresAgain() {
+        String url = storage.uploadFreeImage(file("a.jpg", "photo"));
+        storage.deleteFreeImage(url);
+
+        String again = storage.uploadFreeImage(file("a.jpg", "photo"));
+
+        assertThat(again).isEqualTo(url);
+        assertThat(fileOf(again)).exists();
+        assertThat(imageBlobRepository.findById(url.substring("/uploads/blob/".length(), url.lastIndexOf('.'))))
+                .get()
+                .extracting(b -> b.getRefCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void uploadRestoresFileMissingFromDisk() throws IOException {
+        String url = storage.uploadFreeImage(file("a.jpg", "photo"));
+        Files.delete(fileOf(url));
+
+        // 참조는 남아 있는데 파일만 없는 경우 (정리 도중 실패 등) → 이번 업로드로 다시 채움
+        assertThat(storage.uploadPolicyImage(file("a.jpg", "photo"))).isEqualTo(url);
+        assertThat(fileOf(url)).hasContent("photo");
+        try (var files = Files.list(uploadDir.resolve("blob"))) {
+            assertThat(files).containsExactly(fileOf(url));
+        }
+    }
+
+    private Path fileOf(String url) {
+        return uploadDir.resolve("blob").resolve(url.substring(url.lastIndexOf('/') + 1));
+    }
+
+    private static MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("images", name, "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+package com.ganzithon.homemate.service.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ETag/304, Range/206/416, sendfile 위임
+class ImageFileResponderTest {
+
+    private final ImageFileResponder responder = new ImageFileResponder();
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = dir.resolve("a.png");
+        Files.writeString(file, "0123456789", StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void servesWholeFileWithStrongEtagAndImmutableCache() throws IOException {
+        MockHttpServletResponse res = write(new MockHttpServletRequest("GET", "/uploads/free/a.png"));
+
+        assertThat(res.getStatus()).isEqualTo(200);
+        assertThat(res.getContentAsString()).isEqualTo("0123456789");
+        assertThat(res.getContentType()).isEqualTo("image/png");
+        assertThat(res.getHeader(HttpHeaders.ETAG)).startsWith("\"").doesNotStartWith("W/");
+        assertThat(res.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable", "max-age=31536000");
+        assertThat(res.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    void returnsNotModifiedForMatchingEtag() throws IOException {
+        String etag = write(new MockHttpServletRequest("GET", "/")).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/");
+        req.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse res = write(req);
+
+        assertThat(res.getStatus()).isEqualTo(304);
+        assertThat(res.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void servesSingleRanges() throws IOException {
+        assertRange("bytes=2-4", 206, "234", "bytes 2-4/10");
+        assertRange("bytes=7-", 206, "789", "bytes 7-9/10");
+        assertRange("bytes=-2", 206, "89", "bytes 8-9/10");
+        assertRange("bytes=5-100", 206, "56789", "bytes 5-9/10");
+        // 여러 구간은 전체 응답
+        assertRange("bytes=0-1,4-5", 200, "0123456789", null);
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws IOException {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/");
+        req.addHeader(HttpHeaders.RANGE, "bytes=20-");
+        MockHttpServletResponse res = write(req);
+
+        assertThat(res.getStatus()).isEqualTo(416);
+        assertThat(res.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void ignoresRangeWhenIfRangeIsStale() throws IOException {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/");
+        req.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+        req.addHeader(HttpHeaders.IF_RANGE, "\"old\"");
+
+        assertThat(write(req).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void delegatesBodyToSendfileWhenSupported() throws IOException {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/");
+        req.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        req.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+        MockHttpServletResponse res = write(req);
+
+        assertThat(res.getContentAsByteArray()).isEmpty();
+        assertThat(res.getContentLengthLong()).isEqualTo(3);
+        assertThat(req.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(req.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(2L);
+        assertThat(req.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(5L);
+    }
+
+    @Test
+    void missingFileIsNotFound() throws IOException {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        responder.write(dir.resolve("none.png"), ImageFileResponder.IMMUTABLE, new MockHttpServletRequest("GET", "/"), res);
+
+        assertThat(res.getStatus()).isEqualTo(404);
+    }
+
+    private void assertRange(String range, int status, String body, String contentRange) throws IOException {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/");
+        req.addHeader(HttpHeaders.RANGE, range);
+        MockHttpServletResponse res = write(req);
+
+        assertThat(res.getStatus()).isEqualTo(status);
+        assertThat(res.getContentAsString()).isEqualTo(body);
+        assertThat(res.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo(contentRange);
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest req) throws IOException {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        responder.write(file, ImageFileResponder.IMMUTABLE, req, res);
+        return res;
+    }
+}
@@ -0,0 +1,207 @@
+package com.ganzithon.homemate.service.storage;
+
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PresignedUploadResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 트랜잭션 밖 병렬 업로드 + 롤백 시 보상 삭제
+class PostImageFilesTest {
+
+    private final FakeStorage storage = new FakeStorage();
+    private final PostImageFiles files = new PostImageFiles(storage);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void uploadsInParallelAndKeepsOrder() {
+        storage.barrier = new CountDownLatch(3);
+
+        List<String> urls = files.uploadAll(PostCategory.FREE, List.of(file("a"), file("b"), file("c")));
+
+        // 세 업로드가 동시에 barrier 에 도달해야 통과 (순차면 타임아웃)
+        assertThat(urls).containsExactly("/uploads/free/a", "/uploads/free/b", "/uploads/free/c");
+        assertThat(storage.stored).hasSize(3);
+    }
+
+    @Test
+    void failedUploadRemovesAlreadyStoredFiles() {
+        storage.failOn = "b";
+
+        assertThatThrownBy(() -> files.uploadAll(PostCategory.FREE, List.of(file("a"), file("b"), file("c"))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(storage.stored).isEmpty();
+    }
+
+    @Test
+    void deletesUploadedFilesOnlyWhenRolledBack() {
+        List<String> urls = files.uploadAll(PostCategory.FREE, List.of(file("a")));
+
+        complete(() -> files.deleteOnRollback(PostCategory.FREE, urls), TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(storage.stored).containsExactly("/uploads/free/a");
+
+        complete(() -> files.deleteOnRollback(PostCategory.FREE, urls), TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(storage.stored).isEmpty();
+    }
+
+    @Test
+    void presignAcceptsOnlyAllowedTypesWithinSizeLimit() {
+        PostImageFiles direct = new PostImageFiles(new FakePresignedStorage());
+
+        assertThat(direct.presignUpload(PostCategory.FREE, "IMAGE/PNG", 100).contentLength()).isEqualTo(100);
+        assertThatThrownBy(() -> direct.presignUpload(PostCategory.FREE, "image/svg+xml", 100))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> direct.presignUpload(PostCategory.FREE, "image/png", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> direct.presignUpload(PostCategory.FREE, "image/png", FakePresignedStorage.MAX + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void acceptsDirectUploadsOnlyWhenStoredObjectMatchesPolicy() {
+        FakePresignedStorage presigned = new FakePresignedStorage();
+        PostImageFiles direct = new PostImageFiles(presigned);
+        presigned.objects.put("/uploads/free/ok.png", new PresignedImageStorage.UploadedObject(100, "image/png"));
+        presigned.objects.put("/uploads/free/big.png", new PresignedImageStorage.UploadedObject(FakePresignedStorage.MAX + 1, "image/png"));
+        presigned.objects.put("/uploads/free/page.html", new PresignedImageStorage.UploadedObject(100, "text/html"));
+
+        assertThat(direct.acceptDirectUploads(List.of("/uploads/free/ok.png"))).containsExactly("/uploads/free/ok.png");
+        for (String url : List.of("/uploads/free/missing.png", "/uploads/free/big.png", "/uploads/free/page.html")) {
+            assertThatThrownBy(() -> direct.acceptDirectUploads(List.of(url)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private void complete(Runnable inTx, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        inTx.run();
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        syncs.forEach(s -> s.afterCompletion(status));
+    }
+
+    private static MultipartFile file(String name) {
+        return new MockMultipartFile("images", name, "image/png", new byte[]{1, 2, 3});
+    }
+
+    private static class FakeStorage implements ImageStorage {
+
+        final Set<String> stored = ConcurrentHashMap.newKeySet();
+        volatile CountDownLatch barrier;
+        volatile String failOn;
+
+        @Override
+        public String uploadFreeImage(MultipartFile file) {
+            if (barrier != null) {
+                barrier.countDown();
+                try {
+                    if (!barrier.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("업로드가 병렬로 실행되지 않음");
+                    }
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            if (file.getOriginalFilename().equals(failOn)) {
+                throw new IllegalStateException("업로드 실패");
+            }
+            String url = "/uploads/free/" + file.getOriginalFilename();
+            stored.add(url);
+            return url;
+        }
+
+        @Override
+        public String uploadRoommateImage(MultipartFile file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String uploadPolicyImage(MultipartFile file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteFreeImage(String url) {
+            stored.remove(url);
+        }
+
+        @Override
+        public void deleteRoommateImage(String url) {
+            stored.remove(url);
+        }
+
+        @Override
+        public void deletePolicyImage(String url) {
+            stored.remove(url);
+        }
+
+        @Override
+        public byte[] readImage(String url) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String saveVariant(String originalUrl, String suffix, byte[] jpeg) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteVariant(String url) {
+            stored.remove(url);
+        }
+    }
+
+    private static class FakePresignedStorage extends FakeStorage implements PresignedImageStorage {
+
+        static final long MAX = 1024;
+
+        final Map<String, UploadedObject> objects = new ConcurrentHashMap<>();
+
+        @Override
+        public PresignedUploadResponse presignUpload(PostCategory category, String contentType, long contentLength) {
+            return new PresignedUploadResponse("http://upload", Map.of("content-type", contentType), contentLength,
+                    "/uploads/free/direct", Instant.EPOCH);
+        }
+
+        @Override
+        public long maxUploadBytes() {
+            return MAX;
+        }
+
+        @Override
+        public boolean isDirectUpload(String url) {
+            return true;
+        }
+
+        @Override
+        public Optional<UploadedObject> head(String url) {
+            return Optional.ofNullable(objects.get(url));
+        }
+
+        @Override
+        public String presignDownload(String url) {
+            return url;
+        }
+    }
+}
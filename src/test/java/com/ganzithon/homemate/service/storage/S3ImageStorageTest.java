@@ -0,0 +1,133 @@
+package com.ganzithon.homemate.service.storage;
+
+import com.ganzithon.homemate.config.S3Config;
+import com.ganzithon.homemate.dto.Post.PostCategory;
+import com.ganzithon.homemate.dto.Post.PresignedUploadResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MinIO(S3 호환) 컨테이너로 업로드/멀티파트/presigned URL 검증 (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class S3ImageStorageTest {
+
+    @Container
+    static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2024-12-18T13-15-44Z");
+
+    private static S3Client s3;
+    private static S3Presigner presigner;
+    private static S3ImageStorage storage;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void setUp() {
+        S3StorageProperties props = new S3StorageProperties();
+        props.setBucket("homemate-test");
+        props.setRegion("us-east-1");
+        props.setEndpoint(MINIO.getS3URL());
+        props.setPathStyleAccess(true);
+        props.setAccessKey(MINIO.getUserName());
+        props.setSecretKey(MINIO.getPassword());
+        props.setPartSizeMb(5);
+
+        S3Config config = new S3Config();
+        s3 = config.s3Client(props);
+        presigner = config.s3Presigner(props);
+        s3.createBucket(b -> b.bucket(props.getBucket()));
+
+        storage = new S3ImageStorage(s3, presigner, props);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        presigner.close();
+        s3.close();
+    }
+
+    @Test
+    void storesReadsAndDeletesSmallFile() {
+        byte[] bytes = randomBytes(1024);
+
+        String url = storage.uploadFreeImage(new MockMultipartFile("images", "a.PNG", "image/png", bytes));
+
+        assertThat(url).startsWith("/uploads/free/").endsWith(".png");
+        assertThat(storage.readImage(url)).isEqualTo(bytes);
+
+        String thumb = storage.saveVariant(url, "thumb", new byte[]{1, 2});
+        assertThat(thumb).endsWith("_thumb.jpg");
+        // 앱이 올린 원본/변환본은 직접 업로드 URL 로 받지 않음
+        assertThat(storage.isDirectUpload(url)).isFalse();
+        assertThat(storage.isDirectUpload(thumb)).isFalse();
+        assertThat(storage.head(thumb)).isPresent();
+
+        storage.deleteFreeImage(url);
+        storage.deleteVariant(thumb);
+        assertThat(storage.head(url)).isEmpty();
+        assertThat(storage.head(thumb)).isEmpty();
+    }
+
+    @Test
+    void largeFileGoesThroughMultipartUpload() {
+        // 5MB 파트 3개 (마지막은 1MB)
+        byte[] bytes = randomBytes(11 * 1024 * 1024);
+
+        String url = storage.uploadRoommateImage(new MockMultipartFile("images", "big.jpg", "image/jpeg", bytes));
+
+        assertThat(storage.readImage(url)).isEqualTo(bytes);
+        assertThat(s3.headObject(b -> b.bucket("homemate-test").key(url.substring("/uploads/".length())))
+                .eTag()).endsWith("-3\"");
+    }
+
+    @Test
+    void clientUploadsAndDownloadsDirectlyWithPresignedUrls() throws Exception {
+        byte[] bytes = randomBytes(2048);
+        PresignedUploadResponse presigned = storage.presignUpload(PostCategory.POLICY, "image/jpeg", bytes.length);
+
+        assertThat(storage.isDirectUpload(presigned.imageUrl())).isTrue();
+        assertThat(storage.head(presigned.imageUrl())).isEmpty();
+        assertThat(presigned.headers()).containsEntry("content-type", "image/jpeg");
+
+        // Content-Length 도 서명에 들어가므로 다른 크기는 거절
+        assertThat(put(presigned, randomBytes(4096)).statusCode()).isEqualTo(403);
+        assertThat(storage.head(presigned.imageUrl())).isEmpty();
+
+        assertThat(put(presigned, bytes).statusCode()).isEqualTo(200);
+        assertThat(storage.head(presigned.imageUrl()))
+                .contains(new PresignedImageStorage.UploadedObject(bytes.length, "image/jpeg"));
+
+        HttpResponse<byte[]> get = http.send(HttpRequest.newBuilder(URI.create(storage.presignDownload(presigned.imageUrl())))
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(get.statusCode()).isEqualTo(200);
+        assertThat(get.body()).isEqualTo(bytes);
+        assertThat(get.headers().firstValue("Cache-Control")).hasValueSatisfying(v -> assertThat(v).contains("immutable"));
+    }
+
+    private HttpResponse<Void> put(PresignedUploadResponse presigned, byte[] bytes) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(presigned.uploadUrl()))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(bytes));
+        presigned.headers().forEach(request::header);
+        return http.send(request.build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}